@@ -0,0 +1,225 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Stable Partition
+ *
+ * Definition:
+ * A stable partition reorders an array so that:
+ * 1. Every element matching a predicate comes before every element that
+ *    does not.
+ * 2. Inside each of the two groups, elements keep their original relative
+ *    order.
+ *
+ * It returns the boundary index b:
+ *  - arr[0..b)  : elements where predicate is true  (original order)
+ *  - arr[b..n)  : elements where predicate is false (original order)
+ *
+ * Unlike Hoare / Lomuto partition, plain swapping is not enough because
+ * swaps break the relative order. Two modes are provided:
+ *
+ * Mode 1: In place, rotation based (zero extra memory)
+ * ----------------------------------------------------
+ * - Split the range in half and stably partition each half recursively.
+ * - Now the range looks like: [T1 F1 T2 F2].
+ * - Rotate the middle block [F1 T2] into [T2 F1] using three reversals.
+ * - Result: [T1 T2 F1 F2], stable.
+ *
+ * Time Complexity: O(n log n)
+ * Space Complexity: O(log n) (recursion only, no buffers)
+ *
+ * Mode 2: Parallel prefix-sum scatter (throughput)
+ * ------------------------------------------------
+ * - Phase 1: each chunk counts its matching elements in parallel.
+ * - Phase 2: Arrays.parallelPrefix over the counts gives every chunk its
+ *   write offset for matches; non-matches go after all matches.
+ * - Phase 3: each chunk scatters its elements into a buffer in parallel,
+ *   then the buffer is copied back.
+ *
+ * Time Complexity: O(n / p) for p cores
+ * Space Complexity: O(n)
+ */
+public class StablePartition {
+
+    private static final int MIN_CHUNK = 1 << 16;
+
+    public static void main(String[] args) {
+        test("Zeros to end", new int[]{0, 1, 0, 3, 12}, x -> x != 0);
+        test("Positives first", new int[]{3, -1, -2, 4, 5, -6}, x -> x >= 0);
+        test("Evens first", new int[]{1, 2, 3, 4, 5, 6, 7, 8}, x -> x % 2 == 0);
+        test("All match", new int[]{1, 2, 3}, x -> true);
+        test("None match", new int[]{1, 2, 3}, x -> false);
+        test("Empty", new int[]{}, x -> true);
+    }
+
+    private static void test(String name, int[] arr, IntPredicate predicate) {
+        System.out.println("Test: " + name);
+        System.out.println("Before:   " + Arrays.toString(arr));
+
+        int[] inPlace = arr.clone();
+        int b1 = partitionInPlace(inPlace, predicate);
+        System.out.println("In place: " + Arrays.toString(inPlace) + " boundary " + b1);
+
+        int[] parallel = arr.clone();
+        int b2 = partitionParallel(parallel, predicate);
+        System.out.println("Parallel: " + Arrays.toString(parallel) + " boundary " + b2);
+        System.out.println();
+    }
+
+    /**
+     * Stable in place partition of the whole array (Mode 1).
+     *
+     * @param arr       the array to partition (modified in place)
+     * @param predicate elements where this is true move to the front
+     * @return          number of elements where predicate is true
+     */
+    public static int partitionInPlace(int[] arr, IntPredicate predicate) {
+        if (arr == null) {
+            throw new NullPointerException("Array cannot be null");
+        }
+        return partitionInPlace(arr, 0, arr.length, predicate);
+    }
+
+    /**
+     * Stable in place partition of arr[low..high).
+     *
+     * @return boundary index b in [low, high]
+     */
+    public static int partitionInPlace(int[] arr, int low, int high, IntPredicate predicate) {
+        if (arr == null) {
+            throw new NullPointerException("Array cannot be null");
+        }
+        if (low < 0 || high > arr.length || low > high) {
+            throw new IllegalArgumentException("Invalid range: [" + low + ", " + high + ")");
+        }
+
+        // Leading matches and trailing non-matches are already in place
+        while (low < high && predicate.test(arr[low])) low++;
+        while (low < high && !predicate.test(arr[high - 1])) high--;
+
+        return partitionRange(arr, low, high, predicate);
+    }
+
+    private static int partitionRange(int[] arr, int low, int high, IntPredicate predicate) {
+        if (high - low <= 1) {
+            return (high > low && predicate.test(arr[low])) ? high : low;
+        }
+
+        int mid = (low + high) >>> 1;
+        int leftBoundary = partitionRange(arr, low, mid, predicate);   // [T1 F1]
+        int rightBoundary = partitionRange(arr, mid, high, predicate); // [T2 F2]
+
+        // [F1 T2] -> [T2 F1]
+        rotate(arr, leftBoundary, mid, rightBoundary);
+        return leftBoundary + (rightBoundary - mid);
+    }
+
+    /**
+     * Rotates arr[first..last) so that arr[middle] becomes the first element.
+     */
+    private static void rotate(int[] arr, int first, int middle, int last) {
+        if (first == middle || middle == last) return;
+
+        reverse(arr, first, middle - 1);
+        reverse(arr, middle, last - 1);
+        reverse(arr, first, last - 1);
+    }
+
+    private static void reverse(int[] arr, int i, int j) {
+        while (i < j) {
+            int temp = arr[i];
+            arr[i++] = arr[j];
+            arr[j--] = temp;
+        }
+    }
+
+    /**
+     * Stable parallel partition of the whole array (Mode 2).
+     *
+     * @param arr       the array to partition (modified in place via a buffer)
+     * @param predicate elements where this is true move to the front;
+     *                  must be thread safe and side effect free
+     * @return          number of elements where predicate is true
+     */
+    public static int partitionParallel(int[] arr, IntPredicate predicate) {
+        if (arr == null) {
+            throw new NullPointerException("Array cannot be null");
+        }
+
+        int[] buffer = new int[arr.length];
+        int boundary = partitionInto(arr, buffer, predicate);
+
+        int chunk = chunkSize(arr.length);
+        int chunks = (int) ((arr.length + (long) chunk - 1) / chunk);
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int start = c * chunk;
+            System.arraycopy(buffer, start, arr, start, Math.min(chunk, arr.length - start));
+        });
+
+        return boundary;
+    }
+
+    /**
+     * Stable parallel partition of src into dst (out of place, Mode 2).
+     * src is not modified; dst must be at least as long as src.
+     *
+     * @return number of elements where predicate is true
+     */
+    public static int partitionInto(int[] src, int[] dst, IntPredicate predicate) {
+        if (src == null || dst == null) {
+            throw new NullPointerException("Arrays cannot be null");
+        }
+        if (dst.length < src.length) {
+            throw new IllegalArgumentException("Destination is shorter than source");
+        }
+
+        int n = src.length;
+        if (n == 0) return 0;
+
+        int chunk = chunkSize(n);
+        int chunks = (int) ((n + (long) chunk - 1) / chunk);
+        int[] matches = new int[chunks];
+
+        // Phase 1: count matches per chunk
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int start = c * chunk;
+            int end = (int) Math.min(n, (long) start + chunk);
+            int count = 0;
+            for (int i = start; i < end; i++) {
+                if (predicate.test(src[i])) count++;
+            }
+            matches[c] = count;
+        });
+
+        // Phase 2: inclusive prefix sums -> offsets
+        int[] matchesBefore = matches.clone();
+        Arrays.parallelPrefix(matchesBefore, Integer::sum);
+        int boundary = matchesBefore[chunks - 1];
+
+        // Phase 3: scatter
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int start = c * chunk;
+            int end = (int) Math.min(n, (long) start + chunk);
+            int trueWrite = matchesBefore[c] - matches[c];
+            int falseWrite = boundary + (start - trueWrite); // non-matches before this chunk
+
+            for (int i = start; i < end; i++) {
+                int value = src[i];
+                if (predicate.test(value)) {
+                    dst[trueWrite++] = value;
+                } else {
+                    dst[falseWrite++] = value;
+                }
+            }
+        });
+
+        return boundary;
+    }
+
+    private static int chunkSize(int n) {
+        int target = ForkJoinPool.getCommonPoolParallelism() * 4;
+        return Math.max(MIN_CHUNK, (n + target - 1) / target);
+    }
+}
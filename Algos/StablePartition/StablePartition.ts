@@ -0,0 +1,163 @@
+/**
+ * Stable Partition
+ *
+ * Definition:
+ * A stable partition reorders an array so that:
+ * 1. Every element matching a predicate comes before every element that
+ *    does not.
+ * 2. Inside each of the two groups, elements keep their original relative
+ *    order.
+ *
+ * It returns the boundary index b:
+ *  - arr[0..b)  : elements where predicate is true  (original order)
+ *  - arr[b..n)  : elements where predicate is false (original order)
+ *
+ * Unlike Hoare / Lomuto partition, plain swapping is not enough because
+ * swaps break the relative order. Two modes are provided:
+ *
+ * Mode 1: In place, rotation based (zero extra memory)
+ * ----------------------------------------------------
+ * - Split the range in half and stably partition each half recursively.
+ * - Now the range looks like: [T1 F1 T2 F2].
+ * - Rotate the middle block [F1 T2] into [T2 F1] using three reversals.
+ * - Result: [T1 T2 F1 F2], stable.
+ *
+ * Time Complexity: O(n log n)
+ * Space Complexity: O(log n) (recursion only, no buffers)
+ *
+ * Mode 2: Count then scatter (out of place)
+ * -----------------------------------------
+ * - Count the matching elements: that is where non-matches start.
+ * - One pass writes matches from 0 and non-matches from the boundary.
+ * - The Java version runs both passes per chunk in parallel, with prefix
+ *   sums giving each chunk its offsets; JavaScript runs them in one thread.
+ *
+ * Time Complexity: O(n)
+ * Space Complexity: O(n)
+ */
+
+/**
+ * Stable in place partition of arr[low..high) (Mode 1).
+ *
+ * @param arr       Array to partition (modified in place)
+ * @param predicate Elements where this is true move to the front
+ * @param low       Start of the range (inclusive), default 0
+ * @param high      End of the range (exclusive), default arr.length
+ * @returns         Boundary index b in [low, high]
+ */
+export function partitionInPlace(
+  arr: number[],
+  predicate: (x: number) => boolean,
+  low: number = 0,
+  high: number = arr ? arr.length : 0
+): number {
+  if (!arr) {
+    throw new Error("Array cannot be null or undefined");
+  }
+  if (low < 0 || high > arr.length || low > high) {
+    throw new Error(`Invalid range: [${low}, ${high}) for length ${arr.length}`);
+  }
+
+  // Leading matches and trailing non-matches are already in place
+  while (low < high && predicate(arr[low])) low++;
+  while (low < high && !predicate(arr[high - 1])) high--;
+
+  return partitionRange(arr, low, high, predicate);
+}
+
+function partitionRange(
+  arr: number[],
+  low: number,
+  high: number,
+  predicate: (x: number) => boolean
+): number {
+  if (high - low <= 1) {
+    return high > low && predicate(arr[low]) ? high : low;
+  }
+
+  const mid = (low + high) >>> 1;
+  const leftBoundary = partitionRange(arr, low, mid, predicate); // [T1 F1]
+  const rightBoundary = partitionRange(arr, mid, high, predicate); // [T2 F2]
+
+  // [F1 T2] -> [T2 F1]
+  rotate(arr, leftBoundary, mid, rightBoundary);
+  return leftBoundary + (rightBoundary - mid);
+}
+
+/**
+ * Stable partition of src into dst (Mode 2). src is not modified.
+ *
+ * @returns Number of elements where predicate is true
+ */
+export function partitionInto(
+  src: number[],
+  dst: number[],
+  predicate: (x: number) => boolean
+): number {
+  if (!src || !dst) {
+    throw new Error("Arrays cannot be null or undefined");
+  }
+
+  let boundary = 0;
+  for (const value of src) {
+    if (predicate(value)) boundary++;
+  }
+
+  let trueWrite = 0;
+  let falseWrite = boundary;
+  for (const value of src) {
+    if (predicate(value)) {
+      dst[trueWrite++] = value;
+    } else {
+      dst[falseWrite++] = value;
+    }
+  }
+
+  return boundary;
+}
+
+/**
+ * Rotates arr[first..last) so that arr[middle] becomes the first element.
+ */
+function rotate(arr: number[], first: number, middle: number, last: number): void {
+  if (first === middle || middle === last) return;
+
+  reverse(arr, first, middle - 1);
+  reverse(arr, middle, last - 1);
+  reverse(arr, first, last - 1);
+}
+
+function reverse(arr: number[], i: number, j: number): void {
+  while (i < j) {
+    const temp = arr[i];
+    arr[i++] = arr[j];
+    arr[j--] = temp;
+  }
+}
+
+/* ----------------- Small demo tests ----------------- */
+
+function testStable(
+  name: string,
+  input: number[],
+  predicate: (x: number) => boolean
+): void {
+  console.log(`Test: ${name}`);
+  console.log("Before:  ", input);
+
+  const inPlace = [...input];
+  const b1 = partitionInPlace(inPlace, predicate);
+  console.log("In place:", inPlace, "boundary", b1);
+
+  const out: number[] = new Array(input.length);
+  const b2 = partitionInto(input, out, predicate);
+  console.log("Into:    ", out, "boundary", b2);
+  console.log("---------");
+}
+
+testStable("Zeros to end", [0, 1, 0, 3, 12], (x) => x !== 0);
+testStable("Positives first", [3, -1, -2, 4, 5, -6], (x) => x >= 0);
+testStable("Evens first", [1, 2, 3, 4, 5, 6, 7, 8], (x) => x % 2 === 0);
+testStable("All match", [1, 2, 3], () => true);
+testStable("None match", [1, 2, 3], () => false);
+testStable("Empty", [], () => true);
@@ -1,3 +1,10 @@
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
 public class BestTimeToBuyAndSellStock {
 
     /**
@@ -17,6 +24,15 @@ public class BestTimeToBuyAndSellStock {
      * - Nested loops compare every future price with current buy price
      */
     public static void bruteForce(int[] prices) {
+        Trade trade = bruteForce(prices, new Trade());
+        printResult(prices, trade.profit(), trade.buy(), trade.sell());
+    }
+
+    /**
+     * Same as bruteForce(int[]) but writes (profit, buy, sell) into a
+     * caller-supplied holder instead of printing. No allocation.
+     */
+    public static Trade bruteForce(int[] prices, Trade out) {
         int maxProfit = 0;
         int buy = -1, sell = -1;
 
@@ -31,7 +47,7 @@ public class BestTimeToBuyAndSellStock {
             }
         }
 
-        printResult(prices, maxProfit, buy, sell);
+        return out.set(maxProfit, buy, sell);
     }
 
     /**
@@ -51,6 +67,20 @@ public class BestTimeToBuyAndSellStock {
      * - Compare current profit with max profit
      */
     public static void betterApproach(int[] prices) {
+        Trade trade = betterApproach(prices, new Trade());
+        printResult(prices, trade.profit(), trade.buy(), trade.sell());
+    }
+
+    /**
+     * Same as betterApproach(int[]) but writes (profit, buy, sell) into a
+     * caller-supplied holder instead of printing. No allocation.
+     * An empty array gives profit 0 at days (0, 0).
+     */
+    public static Trade betterApproach(int[] prices, Trade out) {
+        if (prices.length == 0) {
+            return out.set(0, 0, 0);
+        }
+
         int minPrice = prices[0];
         int minDay = 0;
         int maxProfit = 0;
@@ -71,7 +101,7 @@ public class BestTimeToBuyAndSellStock {
             }
         }
 
-        printResult(prices, maxProfit, buy, sell);
+        return out.set(maxProfit, buy, sell);
     }
 
     /**
@@ -93,6 +123,242 @@ public class BestTimeToBuyAndSellStock {
         betterApproach(prices);
     }
 
+    /**
+     * Same as optimal(int[]) but writes (profit, buy, sell) into a
+     * caller-supplied holder instead of printing. No allocation.
+     */
+    public static Trade optimal(int[] prices, Trade out) {
+        return betterApproach(prices, out);
+    }
+
+    /**
+     * Reusable result holder: (profit, buy day, sell day).
+     *
+     * - Mutable on purpose: a caller can keep one instance per thread and
+     *   reuse it for every call, so the hot path allocates nothing.
+     * - profit == 0 means no profitable trade exists.
+     */
+    public static final class Trade {
+        private int profit;
+        private int buy;
+        private int sell;
+
+        public Trade set(int profit, int buy, int sell) {
+            this.profit = profit;
+            this.buy = buy;
+            this.sell = sell;
+            return this;
+        }
+
+        public int profit() {
+            return profit;
+        }
+
+        public int buy() {
+            return buy;
+        }
+
+        public int sell() {
+            return sell;
+        }
+
+        @Override
+        public String toString() {
+            return "Trade{profit=" + profit + ", buy=" + buy + ", sell=" + sell + "}";
+        }
+    }
+
+    /**
+     * ONLINE APPROACH (Streaming Tracker)
+     *
+     * Idea:
+     * - Same greedy as betterApproach, but the state (min price so far,
+     *   best trade so far) lives in an object that is fed one tick at a time
+     * - Optional window: a trade may hold for at most `window` ticks; the
+     *   cheapest buy among the last `window` ticks comes from a monotonic
+     *   deque (sliding window minimum) kept in a primitive ring buffer
+     *
+     * Time Complexity: O(1) per tick (amortized O(1) with a window)
+     * Space Complexity: O(1) unbounded, O(window) with a window
+     *
+     * Stable: Yes
+     *
+     * How it works:
+     * - Prices are long and positions are long tick indices, so the feed
+     *   can be unbounded
+     * - Ties match betterApproach: earliest minimum, first maximal profit
+     * - Not thread-safe: one tracker per feed
+     */
+    public static final class ProfitTracker {
+        private static final int MAPPED_BATCH = 1 << 13;
+
+        private final int window; // 0 = unbounded
+
+        private long count;
+        private long profit;
+        private long buy;
+        private long sell;
+
+        // Unbounded: running minimum
+        private long minPrice;
+        private long minPos;
+
+        // Windowed: deque of candidate buys, prices non-decreasing front to back
+        private final long[] dequePrice;
+        private final long[] dequePos;
+        private int head;
+        private int size;
+
+        public ProfitTracker() {
+            this.window = 0;
+            this.dequePrice = null;
+            this.dequePos = null;
+        }
+
+        /**
+         * @param window maximum holding period in ticks (sell - buy <= window)
+         */
+        public ProfitTracker(int window) {
+            if (window < 1) {
+                throw new IllegalArgumentException("window must be >= 1: " + window);
+            }
+            this.window = window;
+            this.dequePrice = new long[window + 1];
+            this.dequePos = new long[window + 1];
+        }
+
+        public ProfitTracker accept(long price) {
+            long pos = count++;
+
+            if (window == 0) {
+                if (pos == 0) {
+                    minPrice = price;
+                    minPos = 0;
+                    return this;
+                }
+                record(price - minPrice, minPos, pos);
+                if (price < minPrice) {
+                    minPrice = price;
+                    minPos = pos;
+                }
+                return this;
+            }
+
+            int capacity = dequePrice.length;
+
+            // Drop buys that are too old to pair with this sell
+            while (size > 0 && dequePos[head] < pos - window) {
+                head = head + 1 == capacity ? 0 : head + 1;
+                size--;
+            }
+
+            if (size > 0) {
+                record(price - dequePrice[head], dequePos[head], pos);
+            }
+
+            // Keep equal older prices: the earliest minimum wins, as in betterApproach
+            while (size > 0) {
+                int back = head + size - 1;
+                if (back >= capacity) {
+                    back -= capacity;
+                }
+                if (dequePrice[back] <= price) {
+                    break;
+                }
+                size--;
+            }
+
+            int tail = head + size;
+            if (tail >= capacity) {
+                tail -= capacity;
+            }
+            dequePrice[tail] = price;
+            dequePos[tail] = pos;
+            size++;
+
+            return this;
+        }
+
+        public ProfitTracker acceptAll(int[] prices) {
+            for (int price : prices) {
+                accept(price);
+            }
+            return this;
+        }
+
+        public ProfitTracker acceptAll(long[] prices) {
+            return acceptAll(prices, 0, prices.length);
+        }
+
+        public ProfitTracker acceptAll(long[] prices, int from, int to) {
+            for (int i = from; i < to; i++) {
+                accept(prices[i]);
+            }
+            return this;
+        }
+
+        /**
+         * Feeds every tick of a binary file: a flat array of 8-byte longs
+         * in the given byte order (a trailing partial long is ignored).
+         * The file is mapped in segments of at most 1 GB and copied out in
+         * small batches with bulk gets, so no full-size array is allocated.
+         */
+        public ProfitTracker acceptMappedFile(Path path, ByteOrder order) throws IOException {
+            final long segmentBytes = 1L << 30;
+            long[] batch = new long[MAPPED_BATCH];
+
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long totalBytes = channel.size() & ~7L; // whole longs only
+
+                for (long offset = 0; offset < totalBytes; offset += segmentBytes) {
+                    long length = Math.min(segmentBytes, totalBytes - offset);
+                    LongBuffer ticks = channel.map(FileChannel.MapMode.READ_ONLY, offset, length)
+                            .order(order)
+                            .asLongBuffer();
+
+                    while (ticks.hasRemaining()) {
+                        int n = Math.min(batch.length, ticks.remaining());
+                        ticks.get(batch, 0, n);
+                        acceptAll(batch, 0, n);
+                    }
+                }
+            }
+            return this;
+        }
+
+        private void record(long candidate, long buyPos, long sellPos) {
+            if (candidate > profit) {
+                profit = candidate;
+                buy = buyPos;
+                sell = sellPos;
+            }
+        }
+
+        /** Best profit so far; 0 means no profitable trade yet. */
+        public long profit() {
+            return profit;
+        }
+
+        public long buy() {
+            return buy;
+        }
+
+        public long sell() {
+            return sell;
+        }
+
+        /** Number of ticks consumed. */
+        public long count() {
+            return count;
+        }
+
+        @Override
+        public String toString() {
+            return "ProfitTracker{profit=" + profit + ", buy=" + buy + ", sell=" + sell
+                    + ", ticks=" + count + "}";
+        }
+    }
+
     private static void printResult(int[] prices, int profit, int buy, int sell) {
         if (profit == 0) {
             System.out.println("No profit possible");
@@ -111,5 +377,11 @@ public class BestTimeToBuyAndSellStock {
         bruteForce(prices);
         betterApproach(prices);
         optimal(prices);
+
+        Trade trade = new Trade();
+        System.out.println(optimal(prices, trade));
+
+        System.out.println(new ProfitTracker().acceptAll(prices));
+        System.out.println(new ProfitTracker(2).acceptAll(prices));
     }
 }
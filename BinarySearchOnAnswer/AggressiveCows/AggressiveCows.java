@@ -1,4 +1,6 @@
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public class AggressiveCows {
 
@@ -90,11 +92,158 @@ public class AggressiveCows {
         return ans;
     }
 
+    /**
+     * Approach 3: Prepared Stall Index (Many k Queries)
+     *
+     * Idea:
+     * - Sort a private copy of the stalls once; the caller's array is untouched.
+     * - The answer is monotone in k: more cows can never get a larger minimum
+     *   distance. So answer(k1) >= answer(k2) whenever k1 < k2.
+     * - For a batch, solve the middle k first; its answer becomes the lower
+     *   bound for all smaller k and the upper bound for all larger k.
+     * - The two halves are independent, so they run in parallel on a ForkJoinPool.
+     *
+     * Time Complexity: O(n log n) once + O(n * log(maxDistance)) per query,
+     *                  with the search range shrinking as the batch is split
+     * Space Complexity: O(n + q)
+     *
+     * Stable: Yes
+     */
+    public static final class StallIndex {
+        private static final int SEQUENTIAL_THRESHOLD = 4;
+
+        private final int[] stalls;
+
+        public StallIndex(int[] arr) {
+            if (arr.length == 0) {
+                throw new IllegalArgumentException("Need at least one stall");
+            }
+            this.stalls = arr.clone();
+            Arrays.sort(this.stalls);
+        }
+
+        /**
+         * Greedy probe: how many cows fit with at least 'dist' between them.
+         */
+        private int maxCows(int dist) {
+            int cows = 1;
+            int lastPos = stalls[0];
+
+            for (int i = 1; i < stalls.length; i++) {
+                if (stalls[i] - lastPos >= dist) {
+                    cows++;
+                    lastPos = stalls[i];
+                }
+            }
+
+            return cows;
+        }
+
+        /**
+         * Largest distance in (low, high] that fits k cows, or low if none does.
+         * Callers guarantee low is already known to be a valid answer bound.
+         */
+        private int search(int k, int low, int high) {
+            int ans = low;
+            low++;
+
+            while (low <= high) {
+                int mid = low + (high - low) / 2;
+
+                if (maxCows(mid) >= k) {
+                    ans = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+
+            return ans;
+        }
+
+        public int span() {
+            return stalls[stalls.length - 1] - stalls[0];
+        }
+
+        public int answer(int k) {
+            return search(k, 0, span());
+        }
+
+        public int[] answerAll(int[] ks) {
+            int[] distinct = ks.clone();
+            Arrays.sort(distinct);
+
+            int size = 0;
+            for (int i = 0; i < distinct.length; i++) {
+                if (size == 0 || distinct[size - 1] != distinct[i]) {
+                    distinct[size++] = distinct[i];
+                }
+            }
+
+            int[] solved = new int[size];
+            if (size > 0) {
+                ForkJoinPool.commonPool().invoke(
+                        new BatchTask(distinct, solved, 0, size, 0, span()));
+            }
+
+            int[] answers = new int[ks.length];
+            for (int i = 0; i < ks.length; i++) {
+                answers[i] = solved[Arrays.binarySearch(distinct, 0, size, ks[i])];
+            }
+
+            return answers;
+        }
+
+        /**
+         * Solves sorted ks[from..to) knowing every answer lies in [low, high].
+         */
+        private final class BatchTask extends RecursiveAction {
+            private static final long serialVersionUID = 1L;
+
+            private final int[] ks;
+            private final int[] out;
+            private final int from, to, low, high;
+
+            BatchTask(int[] ks, int[] out, int from, int to, int low, int high) {
+                this.ks = ks;
+                this.out = out;
+                this.from = from;
+                this.to = to;
+                this.low = low;
+                this.high = high;
+            }
+
+            @Override
+            protected void compute() {
+                if (from >= to) return;
+
+                int mid = (from + to) >>> 1;
+                int ans = search(ks[mid], low, high);
+                out[mid] = ans;
+
+                // Smaller k -> answer >= ans, larger k -> answer <= ans
+                BatchTask left = new BatchTask(ks, out, from, mid, ans, high);
+                BatchTask right = new BatchTask(ks, out, mid + 1, to, low, ans);
+
+                if (to - from <= SEQUENTIAL_THRESHOLD) {
+                    left.compute();
+                    right.compute();
+                } else {
+                    invokeAll(left, right);
+                }
+            }
+        }
+    }
+
     public static void main(String[] args) {
         int[] arr = {1, 2, 4, 8, 9};
         int k = 3;
 
         System.out.println(aggressiveCowsBrute(arr, k));
         System.out.println(aggressiveCowsOptimal(arr, k));
+
+        StallIndex index = new StallIndex(new int[]{9, 1, 8, 4, 2});
+        System.out.println(index.answer(3));
+        System.out.println(Arrays.toString(index.answerAll(new int[]{2, 3, 4, 5, 3})));
     }
 }
@@ -1,3 +1,5 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public class AllocateBooks {
 
@@ -95,11 +97,144 @@ public class AllocateBooks {
         return ans;
     }
 
+    /**
+     * Helper Method: Minimum number of students needed so nobody gets more than
+     * maxSum pages, using the shared prefix sums. Each student jumps to their
+     * farthest book with one binary search, and counting stops past limit.
+     */
+    private static int piecesNeeded(long[] prefix, long maxSum, int limit) {
+        int n = prefix.length - 1;
+        int start = 0;
+        int pieces = 0;
+
+        while (start < n) {
+            if (++pieces > limit) return pieces;
+
+            // Farthest end with prefix[end] - prefix[start] <= maxSum
+            long target = prefix[start] + maxSum;
+            int low = start + 1, high = n;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (prefix[mid] <= target) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            start = high;
+        }
+
+        return pieces;
+    }
+
+    /**
+     * Helper Method: Smallest maxSum in [low, high] that needs at most m
+     * students. high is always feasible.
+     */
+    private static long search(long[] prefix, int m, long low, long high) {
+        long ans = high;
+
+        while (low <= high) {
+            long mid = low + (high - low) / 2;
+
+            if (piecesNeeded(prefix, mid, m) <= m) {
+                ans = mid;
+                high = mid - 1;
+            } else {
+                low = mid + 1;
+            }
+        }
+
+        return ans;
+    }
+
+    /**
+     * Approach 3: All m in a Range at Once (Parallel)
+     *
+     * Idea: - Build prefix sums once and share them across every m - The answer
+     * is non-increasing in m, so solve the middle m first and use its answer as
+     * the upper bound for larger m and the lower bound for smaller m - The two
+     * halves are independent and run as ForkJoin tasks - Sums are long so large
+     * inputs cannot overflow
+     *
+     * Time Complexity: O(n + R * m * log n * log(sum)) for R values of m Space
+     * Complexity: O(n + R)
+     *
+     * Stable: Yes
+     */
+    public static long[] allocateBooksRange(int[] arr, int mFrom, int mTo) {
+        if (mFrom < 1 || mTo < mFrom) {
+            throw new IllegalArgumentException("Need 1 <= mFrom <= mTo");
+        }
+
+        long[] prefix = new long[arr.length + 1];
+        long max = 0;
+        for (int i = 0; i < arr.length; i++) {
+            prefix[i + 1] = prefix[i] + arr[i];
+            max = Math.max(max, arr[i]);
+        }
+
+        long[] answers = new long[mTo - mFrom + 1];
+        ForkJoinPool.commonPool().invoke(
+                new RangeTask(prefix, answers, mFrom, mFrom, mTo, max, prefix[arr.length]));
+
+        // More students than books cannot be allocated
+        for (int m = Math.max(mFrom, arr.length + 1); m <= mTo; m++) {
+            answers[m - mFrom] = -1;
+        }
+
+        return answers;
+    }
+
+    /**
+     * Solves m in [from, to] knowing every answer lies in [low, high].
+     */
+    private static final class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private static final int SEQUENTIAL_THRESHOLD = 4;
+
+        private final long[] prefix;
+        private final long[] out;
+        private final int base, from, to;
+        private final long low, high;
+
+        RangeTask(long[] prefix, long[] out, int base, int from, int to, long low, long high) {
+            this.prefix = prefix;
+            this.out = out;
+            this.base = base;
+            this.from = from;
+            this.to = to;
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        protected void compute() {
+            if (from > to) return;
+
+            int mid = (from + to) >>> 1;
+            long ans = search(prefix, mid, low, high);
+            out[mid - base] = ans;
+
+            // Fewer pieces -> answer >= ans, more pieces -> answer <= ans
+            RangeTask left = new RangeTask(prefix, out, base, from, mid - 1, ans, high);
+            RangeTask right = new RangeTask(prefix, out, base, mid + 1, to, low, ans);
+
+            if (to - from < SEQUENTIAL_THRESHOLD) {
+                left.compute();
+                right.compute();
+            } else {
+                invokeAll(left, right);
+            }
+        }
+    }
+
     public static void main(String[] args) {
         int[] arr = {12, 34, 67, 90};
         int m = 2;
 
         System.out.println(allocateBooksBrute(arr, m));
         System.out.println(allocateBooksOptimal(arr, m));
+        System.out.println(java.util.Arrays.toString(allocateBooksRange(arr, 1, 5)));
     }
 }
@@ -1,3 +1,5 @@
+import java.util.Arrays;
+
 public class KthMissingPositive {
 
     /**
@@ -64,11 +66,142 @@ public class KthMissingPositive {
         return low + k;
     }
 
+    /**
+     * Approach 3: Missing-Count Index (Batched Queries + Inserts)
+     *
+     * Idea:
+     * - missing(v) = v - (number of used values below v) - 1 is non-decreasing
+     *   along the sorted used values.
+     * - For a batch of ascending k, walk the used values once: keep advancing
+     *   while missing(next) < k, then the answer is used + k.
+     * - Newly used IDs go into a small sorted buffer. The query walk merges the
+     *   base array and the buffer on the fly, so no rebuild is needed per insert.
+     * - The buffer is merged into the base only when it grows past ~sqrt(n).
+     *
+     * Time Complexity: O(n + q) per batch, O(sqrt(n)) amortized per insert
+     * Space Complexity: O(n)
+     *
+     * Stable: Yes
+     */
+    public static final class MissingIndex {
+        private static final int MIN_BUFFER = 64;
+
+        private int[] base;
+        private int[] buffer = new int[MIN_BUFFER];
+        private int bufferSize = 0;
+
+        /**
+         * arr must be strictly increasing positive numbers.
+         */
+        public MissingIndex(int[] arr) {
+            this.base = arr.clone();
+        }
+
+        public int usedCount() {
+            return base.length + bufferSize;
+        }
+
+        public boolean isUsed(int id) {
+            return Arrays.binarySearch(base, id) >= 0
+                    || Arrays.binarySearch(buffer, 0, bufferSize, id) >= 0;
+        }
+
+        /**
+         * Marks id as used. Returns false if it was already used.
+         */
+        public boolean markUsed(int id) {
+            if (id <= 0) {
+                throw new IllegalArgumentException("IDs must be positive");
+            }
+            if (Arrays.binarySearch(base, id) >= 0) return false;
+
+            int pos = Arrays.binarySearch(buffer, 0, bufferSize, id);
+            if (pos >= 0) return false;
+            pos = -pos - 1;
+
+            if (bufferSize == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            System.arraycopy(buffer, pos, buffer, pos + 1, bufferSize - pos);
+            buffer[pos] = id;
+            bufferSize++;
+
+            if (bufferSize > Math.max(MIN_BUFFER, (int) Math.sqrt(base.length))) {
+                compact();
+            }
+            return true;
+        }
+
+        /**
+         * Merges the insert buffer into the base array.
+         */
+        private void compact() {
+            int[] merged = new int[base.length + bufferSize];
+            int i = 0, j = 0, w = 0;
+
+            while (i < base.length && j < bufferSize) {
+                merged[w++] = base[i] < buffer[j] ? base[i++] : buffer[j++];
+            }
+            while (i < base.length) merged[w++] = base[i++];
+            while (j < bufferSize) merged[w++] = buffer[j++];
+
+            base = merged;
+            bufferSize = 0;
+        }
+
+        /**
+         * Answers a batch of ks (must be ascending) in a single merge pass.
+         */
+        public int[] kthMissingBatch(int[] ks) {
+            int[] answers = new int[ks.length];
+            int i = 0, j = 0;
+            int used = 0;
+
+            for (int q = 0; q < ks.length; q++) {
+                int k = ks[q];
+                if (k <= 0 || (q > 0 && k < ks[q - 1])) {
+                    throw new IllegalArgumentException("ks must be positive and ascending");
+                }
+
+                while (true) {
+                    int next;
+                    boolean fromBase;
+
+                    if (i < base.length && (j >= bufferSize || base[i] < buffer[j])) {
+                        next = base[i];
+                        fromBase = true;
+                    } else if (j < bufferSize) {
+                        next = buffer[j];
+                        fromBase = false;
+                    } else {
+                        break;
+                    }
+
+                    if (next - used - 1 >= k) break;
+
+                    if (fromBase) i++;
+                    else j++;
+                    used++;
+                }
+
+                answers[q] = used + k;
+            }
+
+            return answers;
+        }
+    }
+
     public static void main(String[] args) {
         int[] vec = {2, 3, 4, 7, 11};
         int k = 5;
 
         System.out.println(findKthMissingBrute(vec, k));
         System.out.println(findKthMissingOptimal(vec, k));
+
+        MissingIndex index = new MissingIndex(vec);
+        System.out.println(Arrays.toString(index.kthMissingBatch(new int[]{1, 2, 5, 5, 9})));
+        index.markUsed(1);
+        index.markUsed(9);
+        System.out.println(Arrays.toString(index.kthMissingBatch(new int[]{1, 2, 5, 5, 9})));
     }
 }
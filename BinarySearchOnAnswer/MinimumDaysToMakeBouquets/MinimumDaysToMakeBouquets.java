@@ -1,3 +1,4 @@
+import java.util.Arrays;
 
 public class MinimumDaysToMakeBouquets {
 
@@ -101,6 +102,116 @@ public class MinimumDaysToMakeBouquets {
         return ans;
     }
 
+    /**
+     * Helper Method: Single-pass run-length check.
+     *
+     * Idea: - Extend the current run of bloomed roses - Cut a bouquet as soon as
+     * the run reaches k and restart the run - Stop early once m bouquets are made
+     */
+    private static boolean canMakeRuns(int[] arr, int m, int k, int days) {
+        int bouquets = 0;
+        int run = 0;
+
+        for (int bloom : arr) {
+            if (bloom <= days) {
+                if (++run == k) {
+                    if (++bouquets >= m) {
+                        return true;
+                    }
+                    run = 0;
+                }
+            } else {
+                run = 0;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Helper Method: Sorted distinct bloom days - the only possible answers.
+     */
+    private static int[] distinctDays(int[] arr) {
+        int[] days = arr.clone();
+        Arrays.sort(days);
+
+        int size = 0;
+        for (int i = 0; i < days.length; i++) {
+            if (size == 0 || days[size - 1] != days[i]) {
+                days[size++] = days[i];
+            }
+        }
+
+        return Arrays.copyOf(days, size);
+    }
+
+    /**
+     * Helper Method: Binary search over the candidate days for the first one on
+     * which m bouquets can be made.
+     */
+    private static int searchDays(int[] arr, int[] days, int m, int k) {
+        if (k <= 0 || (long) m * k > arr.length || days.length == 0) {
+            return -1;
+        }
+        if (m <= 0) {
+            return days[0];
+        }
+
+        int low = 0;
+        int high = days.length - 1;
+        int ans = -1;
+
+        while (low <= high) {
+            int mid = low + (high - low) / 2;
+
+            if (canMakeRuns(arr, m, k, days[mid])) {
+                ans = days[mid];
+                high = mid - 1;
+            } else {
+                low = mid + 1;
+            }
+        }
+
+        return ans;
+    }
+
+    /**
+     * Approach 3: Binary Search over Distinct Bloom Days
+     *
+     * Idea: - The answer is always one of the bloom days in arr - Sort and
+     * dedupe the bloom days once - Binary search over that candidate set using
+     * the run-length check
+     *
+     * Time Complexity: O(n log n + n * log(distinct)) Space Complexity: O(n)
+     *
+     * Stable: Yes
+     */
+    public static int minDaysCandidates(int[] arr, int m, int k) {
+        return searchDays(arr, distinctDays(arr), m, k);
+    }
+
+    /**
+     * Approach 4: Multi-Query over the Same Garden
+     *
+     * Idea: - Build the distinct candidate days once - Answer each (m, k) pair
+     * with its own binary search over the shared candidates
+     *
+     * Time Complexity: O(n log n + q * n * log(distinct)) Space Complexity:
+     * O(n + q)
+     *
+     * Stable: Yes
+     */
+    public static int[] minDaysQueries(int[] arr, int[][] queries) {
+        int[] days = distinctDays(arr);
+        int[] answers = new int[queries.length];
+
+        for (int q = 0; q < queries.length; q++) {
+            answers[q] = searchDays(arr, days, queries[q][0], queries[q][1]);
+        }
+
+        return answers;
+    }
+
     public static void main(String[] args) {
         int[] arr = {1, 10, 3, 10, 2};
         int m = 3;
@@ -108,5 +219,10 @@ public class MinimumDaysToMakeBouquets {
 
         System.out.println(minDaysBrute(arr, m, k));
         System.out.println(minDaysOptimal(arr, m, k));
+        System.out.println(minDaysCandidates(arr, m, k));
+
+        int[] garden = {7, 7, 7, 7, 12, 7, 7};
+        int[][] queries = {{2, 3}, {1, 7}, {3, 3}, {1, 1}};
+        System.out.println(Arrays.toString(minDaysQueries(garden, queries)));
     }
 }
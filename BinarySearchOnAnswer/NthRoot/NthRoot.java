@@ -1,3 +1,6 @@
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
 public class NthRoot {
 
     /**
@@ -68,11 +71,143 @@ public class NthRoot {
         return -1;
     }
 
+    /**
+     * Helper Method:
+     * Computes base^exp, or returns -1 as soon as the power exceeds limit.
+     * Avoids long overflow by checking before each multiply.
+     * base 0 gives 0 (1 when exp is 0) without dividing by it.
+     */
+    private static long powChecked(long base, int exp, long limit) {
+        if (base == 0) return exp == 0 ? 1 : 0;
+        long result = 1;
+        for (int i = 0; i < exp; i++) {
+            if (result > limit / base) return -1;
+            result *= base;
+        }
+        return result;
+    }
+
+    /**
+     * Approach 3: Floating-Point Seed + Newton Correction (long)
+     *
+     * Idea:
+     * - Math.pow(M, 1.0 / N) is within one of the real root.
+     * - Start just above it and apply integer Newton steps:
+     *      x = ((N - 1) * x + M / x^(N - 1)) / N
+     *   which never drops below floor(root) and stops once x stops shrinking.
+     * - All powers are overflow-checked, so M can be any long.
+     * - Returns floor(M^(1/N)).
+     *
+     * Time Complexity: O(N) (constant number of Newton steps)
+     * Space Complexity: O(1)
+     *
+     * Stable: Yes
+     */
+    public static long floorRoot(long M, int N) {
+        if (M < 0 || N < 1) {
+            throw new IllegalArgumentException("Need M >= 0 and N >= 1");
+        }
+        if (M < 2 || N == 1) return M;
+        if (N >= 63) return 1; // 2^63 > Long.MAX_VALUE
+
+        long x = (long) Math.pow(M, 1.0 / N) + 1;
+
+        while (true) {
+            long p = powChecked(x, N - 1, M);
+            long quotient = (p == -1) ? 0 : M / p;
+            long next = ((N - 1) * x + quotient) / N;
+            if (next >= x) break;
+            x = next;
+        }
+
+        // Final correction for the seed landing below the root
+        while (powChecked(x + 1, N, M) != -1) x++;
+
+        return x;
+    }
+
+    /**
+     * Same contract as nthRootOptimal, but for long inputs:
+     * returns the Nth root if it is an integer, else -1.
+     */
+    public static long nthRootLong(int N, long M) {
+        long root = floorRoot(M, N);
+        return powChecked(root, N, M) == M ? root : -1;
+    }
+
+    /**
+     * Approach 4: Floating-Point Seed + Newton Correction (BigInteger)
+     *
+     * Idea:
+     * - Scale M down by 2^(N * shift) so it fits in a double.
+     * - Seed = root of the scaled value (nudged upwards) shifted back by shift.
+     * - Newton steps from above converge quadratically to floor(root).
+     *
+     * Time Complexity: O(log(bits) * multiply(bits))
+     * Space Complexity: O(bits)
+     *
+     * Stable: Yes
+     */
+    public static BigInteger floorRoot(BigInteger M, int N) {
+        if (M.signum() < 0 || N < 1) {
+            throw new IllegalArgumentException("Need M >= 0 and N >= 1");
+        }
+        if (M.compareTo(BigInteger.TWO) < 0 || N == 1) return M;
+
+        int shift = Math.max(0, (M.bitLength() - 1000 + N - 1) / N);
+        double scaled = M.shiftRight(shift * N).doubleValue();
+        double seed = Math.pow(scaled, 1.0 / N) * (1 + 1e-12);
+
+        BigInteger x = new BigDecimal(seed).toBigInteger().add(BigInteger.ONE).shiftLeft(shift);
+        BigInteger bigN = BigInteger.valueOf(N);
+        BigInteger nMinusOne = BigInteger.valueOf(N - 1);
+
+        while (true) {
+            BigInteger next = nMinusOne.multiply(x).add(M.divide(x.pow(N - 1))).divide(bigN);
+            if (next.compareTo(x) >= 0) break;
+            x = next;
+        }
+
+        while (x.add(BigInteger.ONE).pow(N).compareTo(M) <= 0) x = x.add(BigInteger.ONE);
+
+        return x;
+    }
+
+    /**
+     * Bulk API:
+     * Nth root of every value; -1 where the root is not an integer.
+     */
+    public static long[] nthRootBulk(int N, long[] values) {
+        long[] roots = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            roots[i] = nthRootLong(N, values[i]);
+        }
+        return roots;
+    }
+
+    /**
+     * Bulk API:
+     * floor(value^(1/N)) for every value.
+     */
+    public static long[] floorRootBulk(int N, long[] values) {
+        long[] roots = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            roots[i] = floorRoot(values[i], N);
+        }
+        return roots;
+    }
+
     public static void main(String[] args) {
         System.out.println(nthRootBrute(3, 27));
         System.out.println(nthRootOptimal(3, 27));
 
         System.out.println(nthRootBrute(2, 10));
         System.out.println(nthRootOptimal(2, 10));
+
+        System.out.println(nthRootLong(3, 1_000_000_000_000_000_000L));
+        System.out.println(floorRoot(Long.MAX_VALUE, 2));
+        System.out.println(floorRoot(BigInteger.TEN.pow(100), 7));
+        System.out.println(nthRootLong(2, 0));
+        System.out.println(java.util.Arrays.toString(nthRootBulk(2, new long[]{0, 16, 17, 81, 1L << 62})));
     }
 }
@@ -1,3 +1,6 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 public class SplitArrayLargestSum {
 
     /**
@@ -95,11 +98,144 @@ public class SplitArrayLargestSum {
         return ans;
     }
 
+    /**
+     * Helper Method:
+     * Minimum number of pieces needed so no piece exceeds maxSum, using the
+     * shared prefix sums. Each piece jumps to its farthest end with one binary
+     * search, and the count stops as soon as it passes limit.
+     */
+    private static int piecesNeeded(long[] prefix, long maxSum, int limit) {
+        int n = prefix.length - 1;
+        int start = 0;
+        int pieces = 0;
+
+        while (start < n) {
+            if (++pieces > limit) return pieces;
+
+            // Farthest end with prefix[end] - prefix[start] <= maxSum
+            long target = prefix[start] + maxSum;
+            int low = start + 1, high = n;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (prefix[mid] <= target) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            start = high;
+        }
+
+        return pieces;
+    }
+
+    /**
+     * Helper Method:
+     * Smallest maxSum in [low, high] that needs at most K pieces.
+     * high is always feasible.
+     */
+    private static long search(long[] prefix, int K, long low, long high) {
+        long ans = high;
+
+        while (low <= high) {
+            long mid = low + (high - low) / 2;
+
+            if (piecesNeeded(prefix, mid, K) <= K) {
+                ans = mid;
+                high = mid - 1;
+            } else {
+                low = mid + 1;
+            }
+        }
+
+        return ans;
+    }
+
+    /**
+     * Approach 3: All K in a Range at Once (Parallel)
+     *
+     * Idea:
+     * - Build prefix sums once and share them across every K.
+     * - The answer is non-increasing in K: more subarrays never raise the
+     *   largest sum. Solve the middle K first; its answer is the upper bound
+     *   for larger K and the lower bound for smaller K.
+     * - The two halves are independent and run as ForkJoin tasks.
+     * - Sums are long so large inputs cannot overflow.
+     *
+     * Time Complexity: O(n + R * K * log n * log(sum)) for R values of K,
+     *                  with search ranges shrinking as the range is split
+     * Space Complexity: O(n + R)
+     *
+     * Stable: Yes
+     */
+    public static long[] splitArrayRange(int[] arr, int KFrom, int KTo) {
+        if (KFrom < 1 || KTo < KFrom) {
+            throw new IllegalArgumentException("Need 1 <= KFrom <= KTo");
+        }
+
+        long[] prefix = new long[arr.length + 1];
+        long max = 0;
+        for (int i = 0; i < arr.length; i++) {
+            prefix[i + 1] = prefix[i] + arr[i];
+            max = Math.max(max, arr[i]);
+        }
+
+        long[] answers = new long[KTo - KFrom + 1];
+        ForkJoinPool.commonPool().invoke(
+                new RangeTask(prefix, answers, KFrom, KFrom, KTo, max, prefix[arr.length]));
+
+        return answers;
+    }
+
+    /**
+     * Solves K in [from, to] knowing every answer lies in [low, high].
+     */
+    private static final class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private static final int SEQUENTIAL_THRESHOLD = 4;
+
+        private final long[] prefix;
+        private final long[] out;
+        private final int base, from, to;
+        private final long low, high;
+
+        RangeTask(long[] prefix, long[] out, int base, int from, int to, long low, long high) {
+            this.prefix = prefix;
+            this.out = out;
+            this.base = base;
+            this.from = from;
+            this.to = to;
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        protected void compute() {
+            if (from > to) return;
+
+            int mid = (from + to) >>> 1;
+            long ans = search(prefix, mid, low, high);
+            out[mid - base] = ans;
+
+            // Fewer pieces -> answer >= ans, more pieces -> answer <= ans
+            RangeTask left = new RangeTask(prefix, out, base, from, mid - 1, ans, high);
+            RangeTask right = new RangeTask(prefix, out, base, mid + 1, to, low, ans);
+
+            if (to - from < SEQUENTIAL_THRESHOLD) {
+                left.compute();
+                right.compute();
+            } else {
+                invokeAll(left, right);
+            }
+        }
+    }
+
     public static void main(String[] args) {
         int[] A = {7, 2, 5, 10, 8};
         int K = 2;
 
         System.out.println(splitArrayBrute(A, K));
         System.out.println(splitArrayOptimal(A, K));
+        System.out.println(java.util.Arrays.toString(splitArrayRange(A, 1, 6)));
     }
 }
@@ -1,3 +1,5 @@
+import java.math.BigInteger;
+
 public class SquareRoot {
 
     /**
@@ -61,11 +63,84 @@ public class SquareRoot {
         return ans; // or high 
     }
 
+    /**
+     * Approach 3: Floating-Point Seed + Newton Correction (long)
+     *
+     * Idea:
+     * - Math.sqrt gives a seed within one of the answer.
+     * - One Newton step (x + n / x) / 2 from above lands on the floor root.
+     * - Compare using x <= n / x instead of x * x <= n to avoid overflow.
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     *
+     * Stable: Yes
+     */
+    public static long sqrtLong(long n) {
+        if (n < 0) throw new IllegalArgumentException("n must be non-negative");
+        if (n < 2) return n;
+
+        long x = (long) Math.sqrt((double) n) + 1;
+
+        while (true) {
+            long next = (x + n / x) / 2;
+            if (next >= x) break;
+            x = next;
+        }
+
+        while (x + 1 <= n / (x + 1)) x++;
+
+        return x;
+    }
+
+    /**
+     * Approach 4: Newton Iteration (BigInteger)
+     *
+     * Idea:
+     * - Seed with 2^ceil(bits / 2), which is always >= the root.
+     * - Newton steps from above converge quadratically to floor(sqrt(n)).
+     *
+     * Time Complexity: O(log(bits) * divide(bits))
+     * Space Complexity: O(bits)
+     *
+     * Stable: Yes
+     */
+    public static BigInteger sqrtBig(BigInteger n) {
+        if (n.signum() < 0) throw new IllegalArgumentException("n must be non-negative");
+        if (n.compareTo(BigInteger.TWO) < 0) return n;
+
+        BigInteger x = BigInteger.ONE.shiftLeft((n.bitLength() + 1) / 2);
+
+        while (true) {
+            BigInteger next = x.add(n.divide(x)).shiftRight(1);
+            if (next.compareTo(x) >= 0) break;
+            x = next;
+        }
+
+        return x;
+    }
+
+    /**
+     * Bulk API:
+     * floor(sqrt(value)) for every value.
+     */
+    public static long[] sqrtBulk(long[] values) {
+        long[] roots = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            roots[i] = sqrtLong(values[i]);
+        }
+        return roots;
+    }
+
     public static void main(String[] args) {
         System.out.println(sqrtBrute(16));
         System.out.println(sqrtOptimal(16));
 
         System.out.println(sqrtBrute(10));
         System.out.println(sqrtOptimal(10));
+
+        System.out.println(sqrtLong(Long.MAX_VALUE));
+        System.out.println(sqrtBig(BigInteger.TEN.pow(50)));
+        System.out.println(java.util.Arrays.toString(sqrtBulk(new long[]{0, 15, 16, 1L << 62})));
     }
 }
@@ -1,5 +1,14 @@
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 public class FindMissingNumberInArray {
 
@@ -240,7 +249,212 @@ public class FindMissingNumberInArray {
         return xorRange ^ xorArray;
     }
 
+    private static final int CHUNK = 1 << 16;
+    private static final long SEGMENT_BYTES = 1L << 30;
+
+    /**
+     * Helper: XOR of nums[from..to) with 8 independent accumulators, so the JIT
+     * can keep them in SIMD registers instead of one serial XOR chain.
+     */
+    static int xorRange(int[] nums, int from, int to) {
+        int x0 = 0, x1 = 0, x2 = 0, x3 = 0, x4 = 0, x5 = 0, x6 = 0, x7 = 0;
+        int i = from;
+
+        for (; i + 8 <= to; i += 8) {
+            x0 ^= nums[i];
+            x1 ^= nums[i + 1];
+            x2 ^= nums[i + 2];
+            x3 ^= nums[i + 3];
+            x4 ^= nums[i + 4];
+            x5 ^= nums[i + 5];
+            x6 ^= nums[i + 6];
+            x7 ^= nums[i + 7];
+        }
+        for (; i < to; i++) {
+            x0 ^= nums[i];
+        }
+
+        return (x0 ^ x1) ^ (x2 ^ x3) ^ (x4 ^ x5) ^ (x6 ^ x7);
+    }
+
+    /**
+     * Helper: long sum of nums[from..to) with 4 independent accumulators.
+     * Widening every element to long means the sum cannot overflow.
+     */
+    static long sumRange(int[] nums, int from, int to) {
+        long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = from;
+
+        for (; i + 4 <= to; i += 4) {
+            s0 += nums[i];
+            s1 += nums[i + 1];
+            s2 += nums[i + 2];
+            s3 += nums[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += nums[i];
+        }
+
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Helper: XOR of 0..n in O(1) (the pattern repeats every 4 numbers).
+     */
+    static int xorUpTo(int n) {
+        switch (n & 3) {
+            case 0: return n;
+            case 1: return 1;
+            case 2: return n + 1;
+            default: return 0;
+        }
+    }
+
+    /**
+     * Approach 4a: Parallel sum reduction.
+     *
+     * Idea:
+     * - Addition is associative, so chunks are summed independently on every
+     *   core (unrolled long kernel) and the partial sums are added together.
+     * - missing = n * (n + 1) / 2 - sum, all in long.
+     *
+     * Assumptions / Edge cases: same as Approach 3a.
+     *
+     * Time Complexity: O(n / p) for p cores
+     * Space Complexity: O(1)
+     */
+    public static int findMissingUsingSumParallel(int[] nums) {
+        if (nums == null || nums.length == 0) {
+            throw new IllegalArgumentException("Array must be non null and have at least one element");
+        }
+
+        int n = nums.length;
+        int chunks = (n + CHUNK - 1) / CHUNK;
+        long actualSum = IntStream.range(0, chunks).parallel()
+                .mapToLong(c -> sumRange(nums, c * CHUNK, Math.min(n, (c + 1) * CHUNK)))
+                .sum();
+
+        return (int) ((long) n * (n + 1) / 2 - actualSum);
+    }
+
+    /**
+     * Approach 4b: Parallel XOR reduction.
+     *
+     * Idea:
+     * - XOR of the array is reduced chunk by chunk on every core.
+     * - XOR of the range 0..n comes from the closed form, so only the array
+     *   is scanned (half the work of Approach 3b).
+     *
+     * Assumptions / Edge cases: same as Approach 3b.
+     *
+     * Time Complexity: O(n / p) for p cores
+     * Space Complexity: O(1)
+     */
+    public static int findMissingUsingXorParallel(int[] nums) {
+        if (nums == null || nums.length == 0) {
+            throw new IllegalArgumentException("Array must be non null and have at least one element");
+        }
+
+        int n = nums.length;
+        int chunks = (n + CHUNK - 1) / CHUNK;
+        int xorArray = IntStream.range(0, chunks).parallel()
+                .map(c -> xorRange(nums, c * CHUNK, Math.min(n, (c + 1) * CHUNK)))
+                .reduce(0, (a, b) -> a ^ b);
+
+        return xorUpTo(n) ^ xorArray;
+    }
+
+    /**
+     * Approach 5: Parallel XOR over a memory-mapped file.
+     *
+     * Idea:
+     * - The file is a flat array of n 4-byte ints in the given byte order.
+     * - It is mapped read-only in segments (one mapping is limited to 2 GB).
+     * - Each chunk is bulk-copied into the worker thread's int[] block (one
+     *   block per thread per call, reused across chunks) and reduced with
+     *   the same kernel as Approach 4b.
+     *
+     * Time Complexity: O(n / p), bounded by disk / page cache bandwidth
+     * Space Complexity: O(p) blocks of 64 K ints
+     */
+    public static int findMissingMapped(Path path, ByteOrder order) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long totalBytes = channel.size() & ~3L; // whole ints only
+            long n = totalBytes / 4;
+            if (n == 0 || n >= Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("File must contain between 1 and 2^31 - 2 ints");
+            }
+
+            ThreadLocal<int[]> blocks = ThreadLocal.withInitial(() -> new int[CHUNK]);
+            List<IntBuffer> chunks = new ArrayList<>();
+            for (long offset = 0; offset < totalBytes; offset += SEGMENT_BYTES) {
+                IntBuffer segment = channel
+                        .map(FileChannel.MapMode.READ_ONLY, offset, Math.min(SEGMENT_BYTES, totalBytes - offset))
+                        .order(order)
+                        .asIntBuffer();
+                for (int from = 0; from < segment.limit(); from += CHUNK) {
+                    chunks.add(segment.slice(from, Math.min(CHUNK, segment.limit() - from)));
+                }
+            }
+
+            int xorArray = chunks.parallelStream()
+                    .mapToInt(chunk -> {
+                        int[] block = blocks.get();
+                        chunk.get(0, block, 0, chunk.limit());
+                        return xorRange(block, 0, chunk.limit());
+                    })
+                    .reduce(0, (a, b) -> a ^ b);
+
+            return xorUpTo((int) n) ^ xorArray;
+        }
+    }
+
+    /**
+     * Benchmark: reduction throughput vs memory bandwidth.
+     *
+     * - Baseline is System.arraycopy of the same array (reads + writes every
+     *   byte once), reported as read bandwidth for comparison.
+     * - Each kernel only reads, so GB/s close to the baseline means the
+     *   reduction is memory bound.
+     * - Run: java -Xmx4g FindMissingNumberInArray bench 268435456
+     */
+    static void benchmark(int n) {
+        int[] nums = new int[n];
+        for (int i = 0; i < n; i++) {
+            nums[i] = i; // n is missing
+        }
+        int[] copy = new int[n];
+        double gigabytes = n * 4.0 / 1e9;
+
+        for (int round = 0; round < 5; round++) { // first rounds warm up the JIT
+            long start = System.nanoTime();
+            System.arraycopy(nums, 0, copy, 0, n);
+            double copySeconds = (System.nanoTime() - start) / 1e9;
+
+            start = System.nanoTime();
+            int scalar = findMissingUsingXor(nums);
+            double scalarSeconds = (System.nanoTime() - start) / 1e9;
+
+            start = System.nanoTime();
+            int xor = findMissingUsingXorParallel(nums);
+            double xorSeconds = (System.nanoTime() - start) / 1e9;
+
+            start = System.nanoTime();
+            int sum = findMissingUsingSumParallel(nums);
+            double sumSeconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.printf("n=%,d round=%d  arraycopy: %.1f GB/s  scalar xor: %.1f GB/s (%d)"
+                            + "  parallel xor: %.1f GB/s (%d)  parallel sum: %.1f GB/s (%d)%n",
+                    n, round, gigabytes / copySeconds, gigabytes / scalarSeconds, scalar,
+                    gigabytes / xorSeconds, xor, gigabytes / sumSeconds, sum);
+        }
+    }
+
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("bench")) {
+            benchmark(args.length > 1 ? Integer.parseInt(args[1]) : 1 << 26);
+            return;
+        }
         int[] nums1 = {3, 0, 1};                               // missing 2
         int[] nums2 = {0, 1};                                  // missing 2
         int[] nums3 = {9, 6, 4, 2, 3, 5, 7, 0, 1};             // missing 8
@@ -259,6 +473,8 @@ public class FindMissingNumberInArray {
             System.out.println("Better (hashing):      " + findMissingUsingHashing(arr));
             System.out.println("Optimal (sum):         " + findMissingUsingSum(arr));
             System.out.println("Optimal (XOR):         " + findMissingUsingXor(arr));
+            System.out.println("Parallel (sum):        " + findMissingUsingSumParallel(arr));
+            System.out.println("Parallel (XOR):        " + findMissingUsingXorParallel(arr));
             System.out.println();
         }
     }
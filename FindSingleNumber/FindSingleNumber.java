@@ -1,3 +1,13 @@
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
 public class FindSingleNumber {
 
     /**
@@ -125,6 +135,104 @@ public class FindSingleNumber {
         return xor;
     }
 
+    private static final int CHUNK = 1 << 16;
+    private static final long SEGMENT_BYTES = 1L << 30;
+
+    /**
+     * Helper Method: XOR of nums[from..to) with 8 independent accumulators.
+     *
+     * - The accumulators have no dependency on each other, so the JIT can
+     *   keep them in SIMD registers and the loop is limited by memory
+     *   bandwidth rather than by the latency of one XOR chain.
+     */
+    static int xorRange(int[] nums, int from, int to) {
+        int x0 = 0, x1 = 0, x2 = 0, x3 = 0, x4 = 0, x5 = 0, x6 = 0, x7 = 0;
+        int i = from;
+
+        for (; i + 8 <= to; i += 8) {
+            x0 ^= nums[i];
+            x1 ^= nums[i + 1];
+            x2 ^= nums[i + 2];
+            x3 ^= nums[i + 3];
+            x4 ^= nums[i + 4];
+            x5 ^= nums[i + 5];
+            x6 ^= nums[i + 6];
+            x7 ^= nums[i + 7];
+        }
+        for (; i < to; i++) {
+            x0 ^= nums[i];
+        }
+
+        return (x0 ^ x1) ^ (x2 ^ x3) ^ (x4 ^ x5) ^ (x6 ^ x7);
+    }
+
+    /**
+     * Approach 4: Parallel XOR Reduction
+     *
+     * Idea:
+     * - XOR is associative and commutative, so chunks can be reduced
+     *   independently on every core and combined in any order.
+     * - Each chunk uses the unrolled xorRange kernel.
+     *
+     * Time Complexity: O(n / p) for p cores
+     * Space Complexity: O(1)
+     *
+     * Edge Cases:
+     * - nums null/empty → IllegalArgumentException
+     */
+    public static int findSingleXorParallel(int[] nums) {
+        if (nums == null || nums.length == 0) {
+            throw new IllegalArgumentException("Array must not be null or empty");
+        }
+
+        int chunks = (nums.length + CHUNK - 1) / CHUNK;
+        return IntStream.range(0, chunks).parallel()
+                .map(c -> xorRange(nums, c * CHUNK, Math.min(nums.length, (c + 1) * CHUNK)))
+                .reduce(0, (a, b) -> a ^ b);
+    }
+
+    /**
+     * Approach 5: Parallel XOR over a Memory-Mapped File
+     *
+     * Idea:
+     * - The file is a flat array of 4-byte ints in the given byte order.
+     * - It is mapped read-only in segments (one mapping is limited to 2 GB).
+     * - Every chunk is bulk-copied into the worker thread's int[] block
+     *   (one block per thread per call, reused across chunks) and reduced
+     *   with the same kernel as Approach 4.
+     *
+     * Time Complexity: O(n / p), bounded by disk / page cache bandwidth
+     * Space Complexity: O(p) blocks of 64 K ints
+     */
+    public static int findSingleXorMapped(Path path, ByteOrder order) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long totalBytes = channel.size() & ~3L; // whole ints only
+            if (totalBytes == 0) {
+                throw new IllegalArgumentException("File must contain at least one int");
+            }
+
+            ThreadLocal<int[]> blocks = ThreadLocal.withInitial(() -> new int[CHUNK]);
+            List<IntBuffer> chunks = new ArrayList<>();
+            for (long offset = 0; offset < totalBytes; offset += SEGMENT_BYTES) {
+                IntBuffer segment = channel
+                        .map(FileChannel.MapMode.READ_ONLY, offset, Math.min(SEGMENT_BYTES, totalBytes - offset))
+                        .order(order)
+                        .asIntBuffer();
+                for (int from = 0; from < segment.limit(); from += CHUNK) {
+                    chunks.add(segment.slice(from, Math.min(CHUNK, segment.limit() - from)));
+                }
+            }
+
+            return chunks.parallelStream()
+                    .mapToInt(chunk -> {
+                        int[] block = blocks.get();
+                        chunk.get(0, block, 0, chunk.limit());
+                        return xorRange(block, 0, chunk.limit());
+                    })
+                    .reduce(0, (a, b) -> a ^ b);
+        }
+    }
+
     public static void main(String[] args) {
         int[] nums1 = {2, 2, 1};
         int[] nums2 = {4, 1, 2, 1, 2};
@@ -139,6 +247,7 @@ public class FindSingleNumber {
             System.out.println("Brute:     " + findSingleBrute(tests[i]));
             System.out.println("Hashing:   " + findSingleUsingHashing(tests[i]));
             System.out.println("XOR:       " + findSingleUsingXor(tests[i]));
+            System.out.println("Parallel:  " + findSingleXorParallel(tests[i]));
 
             System.out.println();
         }
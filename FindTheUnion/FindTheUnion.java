@@ -1,7 +1,9 @@
 import java.util.*;
+import java.util.function.IntConsumer;
 
 /**
- * Utility class for finding the union of two integer arrays.
+ * Utility class for finding the union of integer arrays, plus a k-way
+ * union / intersection engine for many sorted arrays.
  */
 public class FindTheUnion {
 
@@ -161,6 +163,248 @@ public class FindTheUnion {
         return union;
     }
 
+    /**
+     * Loser (tournament) tree over the heads of k sorted arrays.
+     *
+     * - Leaf i is the current head of array i; an exhausted array plays as
+     *   +infinity (Long.MAX_VALUE), so any int value stays representable.
+     * - Each internal node stores the index of the loser of the match played
+     *   there; tree[0] holds the overall winner (the smallest head).
+     * - After the winner advances, only its leaf-to-root path is replayed:
+     *   log2(k) comparisons against the stored losers, no sibling lookups.
+     * - Everything is primitive int[] / long[]; no boxing, no heap nodes.
+     */
+    private static final class LoserTree {
+        private static final long EXHAUSTED = Long.MAX_VALUE;
+
+        private final int[][] sources;
+        private final int[] pos;
+        private final long[] heads;
+        private final int[] tree;
+        private final int k;
+
+        LoserTree(int[][] sources) {
+            this.sources = sources;
+            this.k = sources.length;
+            this.pos = new int[k];
+            this.heads = new long[k];
+            this.tree = new int[k];
+
+            for (int i = 0; i < k; i++) {
+                heads[i] = sources[i].length > 0 ? sources[i][0] : EXHAUSTED;
+            }
+
+            // Play the initial tournament bottom-up; leaves sit at k..2k-1
+            int[] winners = new int[2 * k];
+            for (int i = 0; i < k; i++) {
+                winners[k + i] = i;
+            }
+            for (int node = k - 1; node >= 1; node--) {
+                int a = winners[2 * node];
+                int b = winners[2 * node + 1];
+                if (beats(b, a)) {
+                    int t = a;
+                    a = b;
+                    b = t;
+                }
+                winners[node] = a;
+                tree[node] = b;
+            }
+            tree[0] = winners[1];
+        }
+
+        /**
+         * Smaller head wins; ties go to the lower array index.
+         */
+        private boolean beats(int a, int b) {
+            return heads[a] < heads[b] || (heads[a] == heads[b] && a < b);
+        }
+
+        int winner() {
+            return tree[0];
+        }
+
+        long min() {
+            return heads[tree[0]];
+        }
+
+        void advance() {
+            int w = tree[0];
+            int p = ++pos[w];
+            heads[w] = p < sources[w].length ? sources[w][p] : EXHAUSTED;
+
+            for (int node = (w + k) >> 1; node >= 1; node >>= 1) {
+                if (beats(tree[node], w)) {
+                    int t = tree[node];
+                    tree[node] = w;
+                    w = t;
+                }
+            }
+            tree[0] = w;
+        }
+    }
+
+    private static void checkSources(int[][] arrays) {
+        if (arrays == null) {
+            throw new IllegalArgumentException("Input arrays must be non-null");
+        }
+        for (int[] arr : arrays) {
+            if (arr == null) {
+                throw new IllegalArgumentException("Input arrays must be non-null");
+            }
+        }
+    }
+
+    /**
+     * K-way distinct union of many sorted arrays, streamed to a callback.
+     *
+     * Idea:
+     * - Repeatedly take the smallest head from the loser tree.
+     * - Emit it only if it differs from the last emitted value.
+     * - Nothing is buffered, so the union can be larger than memory.
+     *
+     * Assumptions:
+     * - Every array is sorted in non decreasing order.
+     *
+     * Edge cases:
+     * - arrays == null or any array null -> IllegalArgumentException.
+     * - No arrays, or all empty -> nothing is emitted.
+     *
+     * Time Complexity: O(N log k), N = total number of elements
+     * Space Complexity: O(k)
+     *
+     * @param arrays sorted input arrays
+     * @param out receives the union in increasing order
+     */
+    public static void unionKWay(int[][] arrays, IntConsumer out) {
+        checkSources(arrays);
+        if (arrays.length == 0) return;
+
+        LoserTree tree = new LoserTree(arrays);
+        boolean first = true;
+        int last = 0;
+
+        while (tree.min() != LoserTree.EXHAUSTED) {
+            int value = (int) tree.min();
+            if (first || value != last) {
+                out.accept(value);
+                last = value;
+                first = false;
+            }
+            tree.advance();
+        }
+    }
+
+    /**
+     * K-way distinct intersection of many sorted arrays, streamed to a callback.
+     *
+     * Idea:
+     * - Pop every copy of the current smallest value from the loser tree.
+     * - Mark which arrays it came from (stamped int[], no clearing needed).
+     * - Emit it if all k arrays contained it.
+     *
+     * Assumptions:
+     * - Every array is sorted in non decreasing order.
+     *
+     * Edge cases:
+     * - arrays == null or any array null -> IllegalArgumentException.
+     * - No arrays, or any array empty -> nothing is emitted.
+     *
+     * Time Complexity: O(N log k), N = total number of elements
+     * Space Complexity: O(k)
+     *
+     * @param arrays sorted input arrays
+     * @param out receives the intersection in increasing order
+     */
+    public static void intersectionKWay(int[][] arrays, IntConsumer out) {
+        checkSources(arrays);
+        int k = arrays.length;
+        if (k == 0) return;
+
+        LoserTree tree = new LoserTree(arrays);
+        int[] seenAt = new int[k];
+        int stamp = 0;
+
+        while (tree.min() != LoserTree.EXHAUSTED) {
+            long value = tree.min();
+            stamp++;
+            int sourcesWithValue = 0;
+
+            while (tree.min() == value) {
+                int source = tree.winner();
+                if (seenAt[source] != stamp) {
+                    seenAt[source] = stamp;
+                    sourcesWithValue++;
+                }
+                tree.advance();
+            }
+
+            if (sourcesWithValue == k) {
+                out.accept((int) value);
+            }
+        }
+    }
+
+    /**
+     * K-way distinct union of many sorted arrays into an int[].
+     *
+     * Idea:
+     * - Same as the streaming version, writing into a buffer pre-sized to
+     *   the total input length (the largest possible union), then trimmed.
+     *
+     * Time Complexity: O(N log k)
+     * Space Complexity: O(N)
+     *
+     * @param arrays sorted input arrays
+     * @return sorted union of distinct elements
+     */
+    public static int[] unionKWay(int[]... arrays) {
+        checkSources(arrays);
+
+        long total = 0;
+        for (int[] arr : arrays) {
+            total += arr.length;
+        }
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Union may not fit in an int[]; use the streaming version");
+        }
+
+        int[] buffer = new int[(int) total];
+        int[] size = {0};
+        unionKWay(arrays, value -> buffer[size[0]++] = value);
+
+        return Arrays.copyOf(buffer, size[0]);
+    }
+
+    /**
+     * K-way distinct intersection of many sorted arrays into an int[].
+     *
+     * Idea:
+     * - Same as the streaming version, writing into a buffer pre-sized to
+     *   the shortest input (the largest possible intersection), then trimmed.
+     *
+     * Time Complexity: O(N log k)
+     * Space Complexity: O(min length)
+     *
+     * @param arrays sorted input arrays
+     * @return sorted intersection of distinct elements
+     */
+    public static int[] intersectionKWay(int[]... arrays) {
+        checkSources(arrays);
+        if (arrays.length == 0) return new int[0];
+
+        int shortest = Integer.MAX_VALUE;
+        for (int[] arr : arrays) {
+            shortest = Math.min(shortest, arr.length);
+        }
+
+        int[] buffer = new int[shortest];
+        int[] size = {0};
+        intersectionKWay(arrays, value -> buffer[size[0]++] = value);
+
+        return Arrays.copyOf(buffer, size[0]);
+    }
+
     private static void printArray(int[] arr) {
         System.out.print("[");
         for (int k = 0; k < arr.length; k++) {
@@ -208,5 +452,10 @@ public class FindTheUnion {
 
             System.out.println();
         }
+
+        System.out.print("K-way union:        ");
+        printArray(unionKWay(arr1, arr2, arr4, arr5, arr6));
+        System.out.print("K-way intersection: ");
+        printArray(intersectionKWay(arr1, arr2, new int[]{2, 3, 3, 9}));
     }
 }
@@ -1,7 +1,10 @@
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 public class LeadersInArray {
 
@@ -103,11 +106,102 @@ public class LeadersInArray {
         return leaders;
     }
 
+    private static final int MIN_CHUNK = 1 << 16;
+
+    /**
+     * Approach 4: Parallel Suffix Maximum (Count then Fill)
+     *
+     * Idea: - Split the array into chunks and find each chunk's maximum in
+     * parallel. - A suffix scan over the (few) chunk maxima gives every chunk
+     * the maximum of everything to its right. - Each chunk then counts its
+     * leaders in parallel, starting from that carried-in maximum. - A prefix
+     * sum of the counts gives each chunk its slot in one exactly-sized int[],
+     * and a second parallel pass fills the slots back to front, so the result
+     * is already in forward order.
+     *
+     * Time Complexity: O(n / p + chunks) Space Complexity: O(leaders + chunks)
+     *
+     * Stable: Yes - no boxing, no list, no reverse.
+     */
+    public static int[] leadersParallel(int[] arr) {
+        int n = arr.length;
+        if (n == 0) {
+            return new int[0];
+        }
+
+        int chunk = chunkSize(n);
+        int chunks = (int) ((n + (long) chunk - 1) / chunk);
+
+        // Pass 1: maximum of every chunk
+        int[] chunkMax = new int[chunks];
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int start = c * chunk;
+            int end = (int) Math.min(n, (long) start + chunk);
+            int max = Integer.MIN_VALUE;
+
+            for (int i = start; i < end; i++) {
+                max = Math.max(max, arr[i]);
+            }
+            chunkMax[c] = max;
+        });
+
+        // rightMax[c] = maximum of all chunks after c
+        int[] rightMax = new int[chunks];
+        rightMax[chunks - 1] = Integer.MIN_VALUE;
+        for (int c = chunks - 2; c >= 0; c--) {
+            rightMax[c] = Math.max(chunkMax[c + 1], rightMax[c + 1]);
+        }
+
+        // Pass 2: leaders per chunk
+        int[] counts = new int[chunks];
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int start = c * chunk;
+            int end = (int) Math.min(n, (long) start + chunk);
+            int maxSoFar = rightMax[c];
+            int count = 0;
+
+            for (int i = end - 1; i >= start; i--) {
+                if (arr[i] >= maxSoFar) {
+                    maxSoFar = arr[i];
+                    count++;
+                }
+            }
+            counts[c] = count;
+        });
+
+        int[] offsets = counts.clone();
+        Arrays.parallelPrefix(offsets, Integer::sum);
+
+        // Pass 3: fill each chunk's slot from its end backwards
+        int[] leaders = new int[offsets[chunks - 1]];
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int start = c * chunk;
+            int end = (int) Math.min(n, (long) start + chunk);
+            int maxSoFar = rightMax[c];
+            int write = offsets[c];
+
+            for (int i = end - 1; i >= start; i--) {
+                if (arr[i] >= maxSoFar) {
+                    maxSoFar = arr[i];
+                    leaders[--write] = maxSoFar;
+                }
+            }
+        });
+
+        return leaders;
+    }
+
+    private static int chunkSize(int n) {
+        int target = ForkJoinPool.getCommonPoolParallelism() * 4;
+        return Math.max(MIN_CHUNK, (n + target - 1) / target);
+    }
+
     public static void main(String[] args) {
         int[] arr = {16, 17, 4, 3, 5, 2};
 
         System.out.println(leadersBrute(arr));
         System.out.println(leadersBetter(arr));
         System.out.println(leadersOptimal(arr));
+        System.out.println(Arrays.toString(leadersParallel(arr)));
     }
 }
@@ -1,6 +1,9 @@
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
 
 public class LongestConsecutiveSequence {
 
@@ -130,11 +133,494 @@ public class LongestConsecutiveSequence {
         return longest;
     }
 
+    /**
+     * Primitive open-addressing int hash set.
+     *
+     * Idea:
+     * - Keys live in one flat int[] (no Integer boxing, 8-16 bytes per
+     *   element at a load factor of 0.25-0.5 instead of ~50 for
+     *   HashSet<Integer>)
+     * - Linear probing over a power-of-two table
+     * - 0 marks an empty slot, so the real key 0 is tracked by a flag and
+     *   gets the extra id capacity() in indexOf
+     */
+    static final class IntHashSet {
+        private static final int FREE_KEY = 0;
+        private static final int MAX_CAPACITY = 1 << 30;
+
+        private int[] keys;
+        private int mask;
+        private int size;
+        private boolean hasZeroKey;
+
+        IntHashSet(int expectedSize) {
+            int capacity = tableSize(expectedSize);
+            keys = new int[capacity];
+            mask = capacity - 1;
+        }
+
+        private static int slot(int key, int mask) {
+            int h = key * 0x9E3779B9;
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        boolean add(int key) {
+            if (key == FREE_KEY) {
+                if (hasZeroKey) return false;
+                hasZeroKey = true;
+                size++;
+                return true;
+            }
+
+            int i = slot(key, mask);
+            while (keys[i] != FREE_KEY) {
+                if (keys[i] == key) return false;
+                i = (i + 1) & mask;
+            }
+
+            keys[i] = key;
+            if (++size * 2 > keys.length) rehash();
+            return true;
+        }
+
+        boolean contains(int key) {
+            return indexOf(key) != -1;
+        }
+
+        /**
+         * Stable id of key in [0, capacity()], or -1 if absent.
+         */
+        int indexOf(int key) {
+            if (key == FREE_KEY) return hasZeroKey ? keys.length : -1;
+
+            int i = slot(key, mask);
+            while (keys[i] != FREE_KEY) {
+                if (keys[i] == key) return i;
+                i = (i + 1) & mask;
+            }
+            return -1;
+        }
+
+        int capacity() {
+            return keys.length;
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean isUsed(int id) {
+            return id == keys.length ? hasZeroKey : keys[id] != FREE_KEY;
+        }
+
+        int keyAt(int id) {
+            return id == keys.length ? FREE_KEY : keys[id];
+        }
+
+        /**
+         * Power-of-two table size that keeps expectedSize keys at most half
+         * full, computed in long and clamped at MAX_CAPACITY slots.
+         */
+        private static int tableSize(long expectedSize) {
+            long capacity = Long.highestOneBit(Math.max(4L, expectedSize) * 2 - 1) << 1;
+            return (int) Math.min(capacity, MAX_CAPACITY);
+        }
+
+        private void rehash() {
+            if (keys.length == MAX_CAPACITY) {
+                throw new IllegalArgumentException("Too many distinct keys: a table holds at most " + MAX_CAPACITY / 2);
+            }
+
+            int[] oldKeys = keys;
+            keys = new int[oldKeys.length * 2];
+            mask = keys.length - 1;
+
+            for (int key : oldKeys) {
+                if (key == FREE_KEY) continue;
+
+                int i = slot(key, mask);
+                while (keys[i] != FREE_KEY) i = (i + 1) & mask;
+                keys[i] = key;
+            }
+        }
+    }
+
+    /**
+     * Approach 4: Optimal (Primitive IntHashSet)
+     *
+     * Idea:
+     * - Same as Approach 3, but the set is a primitive IntHashSet.
+     * - Walk the table slots directly instead of iterating boxed values.
+     * - Stop at Integer.MAX_VALUE so num + 1 cannot wrap around.
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(n) (8-16 bytes per element)
+     *
+     * Stable: Not Applicable
+     */
+    public static int longestConsecutivePrimitive(int[] nums) {
+        IntHashSet set = new IntHashSet(nums.length);
+        for (int num : nums) {
+            set.add(num);
+        }
+
+        int longest = 0;
+
+        for (int id = 0; id <= set.capacity(); id++) {
+            if (!set.isUsed(id)) continue;
+
+            int num = set.keyAt(id);
+            if (num != Integer.MIN_VALUE && set.contains(num - 1)) continue;
+
+            int currentNum = num;
+            int count = 1;
+
+            while (currentNum != Integer.MAX_VALUE && set.contains(currentNum + 1)) {
+                currentNum++;
+                count++;
+            }
+
+            longest = Math.max(longest, count);
+        }
+
+        return longest;
+    }
+
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /**
+     * Helper Method:
+     * Lock-free find with path halving. Racing writers only ever move a
+     * node closer to its root, so a lost CAS is harmless.
+     */
+    private static int find(AtomicIntegerArray parent, int x) {
+        while (true) {
+            int p = parent.get(x);
+            if (p == x) return x;
+
+            int grandParent = parent.get(p);
+            if (p != grandParent) parent.compareAndSet(x, p, grandParent);
+            x = grandParent;
+        }
+    }
+
+    /**
+     * Helper Method:
+     * Lock-free union: always link the larger root under the smaller one,
+     * retrying if another thread changed the root meanwhile.
+     */
+    private static void union(AtomicIntegerArray parent, int a, int b) {
+        while (true) {
+            a = find(parent, a);
+            b = find(parent, b);
+            if (a == b) return;
+
+            if (a < b) {
+                int t = a;
+                a = b;
+                b = t;
+            }
+            if (parent.compareAndSet(a, a, b)) return;
+        }
+    }
+
+    /**
+     * Approach 5: Parallel (Chunk Runs + Concurrent Union-Find)
+     *
+     * Idea:
+     * - Sort a copy with Arrays.parallelSort, then cut it into chunks.
+     *   Sorted chunks cover disjoint value ranges, so every run is either
+     *   inside one chunk or crosses a chunk boundary.
+     * - Each chunk scans its own runs in parallel and reports its prefix run,
+     *   suffix run and best inner run (counting distinct values).
+     * - Only the boundary runs become union-find nodes (two per chunk):
+     *   prefix and suffix are unioned when the chunk is one single run, and
+     *   a chunk's suffix is unioned with the next chunk's prefix when the
+     *   values touch. Those unions run in parallel (lock-free).
+     * - Each component adds up its node lengths (minus one for a value
+     *   repeated across a boundary); the largest component or inner run wins.
+     *
+     * Time Complexity: O(n log n / p) for p cores
+     * Space Complexity: O(n) (~8 bytes per element: the sorted copy plus
+     *                   parallelSort's merge buffer) + O(chunks)
+     *
+     * Stable: Not Applicable
+     */
+    public static int longestConsecutiveParallel(int[] nums) {
+        if (nums.length < PARALLEL_THRESHOLD) {
+            return longestConsecutivePrimitive(nums);
+        }
+
+        int[] sorted = nums.clone();
+        Arrays.parallelSort(sorted);
+
+        int n = sorted.length;
+        int target = ForkJoinPool.getCommonPoolParallelism() * 4;
+        int chunk = Math.max(PARALLEL_THRESHOLD, (int) ((n + (long) target - 1) / target));
+        int chunks = (int) ((n + (long) chunk - 1) / chunk);
+
+        // Per chunk: length of the prefix run, the suffix run, the best run
+        int[] prefix = new int[chunks];
+        int[] suffix = new int[chunks];
+        int[] best = new int[chunks];
+        boolean[] single = new boolean[chunks];
+
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int start = c * chunk;
+            int end = (int) Math.min(n, (long) start + chunk);
+
+            int run = 1;
+            int first = -1; // prefix run length, -1 until the first break
+            int longest = 1;
+            for (int i = start + 1; i < end; i++) {
+                long gap = (long) sorted[i] - sorted[i - 1];
+                if (gap == 0) continue;
+                if (gap == 1) {
+                    run++;
+                } else {
+                    if (first == -1) first = run;
+                    run = 1;
+                }
+                longest = Math.max(longest, run);
+            }
+
+            single[c] = first == -1;
+            prefix[c] = single[c] ? run : first;
+            suffix[c] = run;
+            best[c] = longest;
+        });
+
+        // Node 2c = prefix run of chunk c, node 2c + 1 = suffix run of chunk c
+        AtomicIntegerArray parent = new AtomicIntegerArray(2 * chunks);
+        for (int node = 0; node < 2 * chunks; node++) parent.set(node, node);
+
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            if (single[c]) union(parent, 2 * c, 2 * c + 1);
+            if (c + 1 < chunks && touches(sorted, (c + 1) * chunk)) {
+                union(parent, 2 * c + 1, 2 * (c + 1));
+            }
+        });
+
+        int[] total = new int[2 * chunks];
+        int longest = 0;
+        for (int c = 0; c < chunks; c++) {
+            longest = Math.max(longest, best[c]);
+
+            total[find(parent, 2 * c)] += prefix[c];
+            if (!single[c]) total[find(parent, 2 * c + 1)] += suffix[c];
+
+            int boundary = (c + 1) * chunk;
+            if (c + 1 < chunks && sorted[boundary] == sorted[boundary - 1]) {
+                total[find(parent, 2 * c + 1)]--; // same value on both sides
+            }
+        }
+        for (int node = 0; node < 2 * chunks; node++) {
+            longest = Math.max(longest, total[node]);
+        }
+
+        return longest;
+    }
+
+    /**
+     * Helper Method:
+     * True if the values on both sides of a chunk boundary are equal or
+     * consecutive, so the two boundary runs belong to one run.
+     */
+    private static boolean touches(int[] sorted, int boundary) {
+        return (long) sorted[boundary] - sorted[boundary - 1] <= 1;
+    }
+
+    /**
+     * Primitive open-addressing int → int hash map (linear probing),
+     * same layout as IntHashSet plus a parallel values array.
+     */
+    static final class IntIntMap {
+        private static final int FREE_KEY = 0;
+        private static final int MAX_CAPACITY = 1 << 30;
+
+        private int[] keys;
+        private int[] values;
+        private int mask;
+        private int size;
+
+        private boolean hasZeroKey;
+        private int zeroValue;
+
+        IntIntMap(int expectedSize) {
+            int capacity = tableSize(expectedSize);
+            keys = new int[capacity];
+            values = new int[capacity];
+            mask = capacity - 1;
+        }
+
+        private static int slot(int key, int mask) {
+            int h = key * 0x9E3779B9;
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        int get(int key, int defaultValue) {
+            if (key == FREE_KEY) return hasZeroKey ? zeroValue : defaultValue;
+
+            int i = slot(key, mask);
+            while (keys[i] != FREE_KEY) {
+                if (keys[i] == key) return values[i];
+                i = (i + 1) & mask;
+            }
+            return defaultValue;
+        }
+
+        void put(int key, int value) {
+            if (key == FREE_KEY) {
+                if (!hasZeroKey) size++;
+                hasZeroKey = true;
+                zeroValue = value;
+                return;
+            }
+
+            int i = slot(key, mask);
+            while (keys[i] != FREE_KEY) {
+                if (keys[i] == key) {
+                    values[i] = value;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+
+            keys[i] = key;
+            values[i] = value;
+            if (++size * 2 > keys.length) rehash();
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * Power-of-two table size that keeps expectedSize keys at most half
+         * full, computed in long and clamped at MAX_CAPACITY slots.
+         */
+        private static int tableSize(long expectedSize) {
+            long capacity = Long.highestOneBit(Math.max(4L, expectedSize) * 2 - 1) << 1;
+            return (int) Math.min(capacity, MAX_CAPACITY);
+        }
+
+        private void rehash() {
+            if (keys.length == MAX_CAPACITY) {
+                throw new IllegalArgumentException("Too many distinct keys: a table holds at most " + MAX_CAPACITY / 2);
+            }
+
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+
+            keys = new int[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            mask = keys.length - 1;
+
+            for (int j = 0; j < oldKeys.length; j++) {
+                int key = oldKeys[j];
+                if (key == FREE_KEY) continue;
+
+                int i = slot(key, mask);
+                while (keys[i] != FREE_KEY) i = (i + 1) & mask;
+                keys[i] = key;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    /**
+     * Approach 6: Online Interval Tracker (streaming input)
+     *
+     * Idea:
+     * - Keep one primitive map value → run length. The length is only kept
+     *   up to date at the two boundaries of each run.
+     * - Inserting a new x:
+     *      - left  = length of the run ending at x - 1 (0 if none)
+     *      - right = length of the run starting at x + 1 (0 if none)
+     *      - The merged run [x - left, x + right] has length left + right + 1;
+     *        write it at x and at both new boundaries.
+     * - The best run is packed as (start, length) in one volatile long, so
+     *   reader threads see a consistent answer in O(1) while one writer inserts.
+     *
+     * Time Complexity: O(1) expected per insert, O(1) per query
+     * Space Complexity: O(distinct values)
+     *
+     * Stable: Not Applicable
+     */
+    public static final class ConsecutiveRunTracker {
+        private final IntIntMap runLength = new IntIntMap(16);
+        private volatile long best; // (start << 32) | length
+        private volatile int distinct;
+
+        /**
+         * Adds x to the stream. Single writer thread only.
+         * Returns the length of the run containing x after the insert,
+         * or 0 if x was already present (duplicates never change runs).
+         */
+        public int add(int x) {
+            if (runLength.get(x, 0) != 0) return 0;
+
+            int left = x == Integer.MIN_VALUE ? 0 : runLength.get(x - 1, 0);
+            int right = x == Integer.MAX_VALUE ? 0 : runLength.get(x + 1, 0);
+
+            int length = left + right + 1;
+            int start = x - left;
+
+            runLength.put(x, length);
+            runLength.put(start, length);
+            runLength.put(x + right, length);
+            distinct = runLength.size();
+
+            if (length > (int) best) {
+                best = ((long) start << 32) | length;
+            }
+            return length;
+        }
+
+        public void addAll(int[] xs) {
+            for (int x : xs) add(x);
+        }
+
+        /**
+         * Current longest run length. Safe from any thread.
+         */
+        public int longest() {
+            return (int) best;
+        }
+
+        /**
+         * Current longest run as {start, end}, or {} if empty. Safe from any thread.
+         */
+        public int[] longestRange() {
+            long snapshot = best;
+            int length = (int) snapshot;
+            if (length == 0) return new int[0];
+
+            int start = (int) (snapshot >> 32);
+            return new int[]{start, start + length - 1};
+        }
+
+        /**
+         * Number of distinct values seen so far. Safe from any thread.
+         */
+        public int distinctCount() {
+            return distinct;
+        }
+    }
+
     public static void main(String[] args) {
         int[] nums = {100, 4, 200, 1, 3, 2};
 
         System.out.println(longestConsecutiveBrute(nums));
         System.out.println(longestConsecutiveSorting(nums.clone()));
         System.out.println(longestConsecutiveOptimal(nums));
+        System.out.println(longestConsecutivePrimitive(nums));
+        System.out.println(longestConsecutiveParallel(nums));
+
+        ConsecutiveRunTracker tracker = new ConsecutiveRunTracker();
+        for (int num : nums) {
+            tracker.add(num);
+            System.out.println(num + " -> " + tracker.longest() + " " + Arrays.toString(tracker.longestRange()));
+        }
     }
 }
@@ -76,7 +76,8 @@ public class LongestSubarrayWithGivenSumKPositives {
      *     We want a previous index j (j < i) such that:
      *         prefixSum(i) - prefixSum(j) = K
      *     → prefixSum(j) = prefixSum(i) - K
-     * - Store the earliest index for each prefix sum in a HashMap.
+     * - Store the earliest index for each prefix sum in a primitive LongIntMap
+     *   (no boxing); prefix sums are long so they cannot overflow.
      * - For each prefixSum(i), check if prefixSum(i) - K is already in the map:
      *     - If yes, we have a subarray from (firstIndexOf(prefixSum(i) - K) + 1) to i
      *       with sum K; update max length accordingly.
@@ -90,10 +91,10 @@ public class LongestSubarrayWithGivenSumKPositives {
      * - No subarray sums to K -> return 0.
      *
      * Time Complexity: O(n)
-     * - Single pass through the array, each HashMap operation is O(1) average.
+     * - Single pass through the array, each map operation is O(1) average.
      *
      * Space Complexity: O(n)
-     * - HashMap can store up to n distinct prefix sums.
+     * - The map can store up to n distinct prefix sums.
      *
      * Example test cases:
      * - nums = [1, 2, 3, 1, 1, 1, 2], K = 6 -> 3 ([1,2,3])
@@ -108,20 +109,22 @@ public class LongestSubarrayWithGivenSumKPositives {
 
         int n = nums.length;
         int maxLen = 0;
-        int prefixSum = 0;
+        long prefixSum = 0;
 
-        java.util.Map<Integer, Integer> firstIndexOfPrefix = new java.util.HashMap<>();
+        LongIntMap firstIndexOfPrefix = new LongIntMap(n + 1);
         // Important: prefix sum 0 first appears at index -1 (before array starts)
-        firstIndexOfPrefix.put(0, -1);
+        firstIndexOfPrefix.putIfAbsent(0, -1);
 
         for (int i = 0; i < n; i++) {
             prefixSum += nums[i];
 
             // We want prefixSum(i) - prefixSum(j) = K → prefixSum(j) = prefixSum(i) - K
-            int needed = prefixSum - K;
+            long needed = prefixSum - K;
 
-            if (firstIndexOfPrefix.containsKey(needed)) {
-                int startIndex = firstIndexOfPrefix.get(needed) + 1;
+            // One probe: -1 is a real stored index (prefix 0), so absent is MIN_VALUE
+            int previous = firstIndexOfPrefix.get(needed, Integer.MIN_VALUE);
+            if (previous != Integer.MIN_VALUE) {
+                int startIndex = previous + 1;
                 int length = i - startIndex + 1;
                 if (length > maxLen) {
                     maxLen = length;
@@ -214,6 +217,101 @@ public class LongestSubarrayWithGivenSumKPositives {
         return maxLen;
     }
 
+    /**
+     * Primitive open-addressing long → int hash map for prefix sums.
+     *
+     * Idea:
+     * - Keys (long) and values (int) live in flat arrays: no boxing, no nodes
+     * - Linear probing with a power-of-two table kept at most half full
+     * - A parallel boolean[] marks used slots, so every long value is a valid key
+     */
+    static final class LongIntMap {
+        private static final int MAX_CAPACITY = 1 << 30;
+
+        private long[] keys;
+        private int[] values;
+        private boolean[] used;
+        private int mask;
+        private int size;
+
+        LongIntMap(int expectedSize) {
+            int capacity = tableSize(expectedSize);
+            keys = new long[capacity];
+            values = new int[capacity];
+            used = new boolean[capacity];
+            mask = capacity - 1;
+        }
+
+        private static int slot(long key, int mask) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+
+        private int find(long key) {
+            int i = slot(key, mask);
+            while (used[i]) {
+                if (keys[i] == key) return i;
+                i = (i + 1) & mask;
+            }
+            return -1;
+        }
+
+        int get(long key, int defaultValue) {
+            int i = find(key);
+            return i == -1 ? defaultValue : values[i];
+        }
+
+        /**
+         * Stores the value only if the key is new (keeps the first index).
+         */
+        void putIfAbsent(long key, int value) {
+            int i = slot(key, mask);
+            while (used[i]) {
+                if (keys[i] == key) return;
+                i = (i + 1) & mask;
+            }
+
+            used[i] = true;
+            keys[i] = key;
+            values[i] = value;
+            if (++size * 2 > keys.length) rehash();
+        }
+
+        /**
+         * Power-of-two table size that keeps expectedSize keys at most half
+         * full, computed in long and clamped at MAX_CAPACITY slots.
+         */
+        private static int tableSize(long expectedSize) {
+            long capacity = Long.highestOneBit(Math.max(4L, expectedSize) * 2 - 1) << 1;
+            return (int) Math.min(capacity, MAX_CAPACITY);
+        }
+
+        private void rehash() {
+            if (keys.length == MAX_CAPACITY) {
+                throw new IllegalArgumentException("Too many distinct keys: a table holds at most " + MAX_CAPACITY / 2);
+            }
+
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            boolean[] oldUsed = used;
+
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            used = new boolean[oldKeys.length * 2];
+            mask = keys.length - 1;
+
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (!oldUsed[j]) continue;
+
+                int i = slot(oldKeys[j], mask);
+                while (used[i]) i = (i + 1) & mask;
+                used[i] = true;
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
     public static void main(String[] args) {
         int[] nums1 = {1, 2, 3, 1, 1, 1, 2};
         int K1 = 6; // longest subarray: [1,2,3] -> length 3
@@ -1,5 +1,18 @@
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collector;
 
 public class MajorityElement {
 
@@ -101,6 +114,212 @@ public class MajorityElement {
         return candidate;
     }
 
+    /**
+     * Boyer Moore state for one chunk: (candidate, count).
+     *
+     * Two states merge associatively:
+     * - Same candidate → counts add up.
+     * - Different candidates → they cancel; the larger count survives
+     *   with the difference.
+     * Every cancellation removes one majority vote and one other vote at
+     * most, so a true majority element always survives the merge.
+     */
+    public static final class Vote {
+        private int candidate;
+        private long count;
+
+        public void accept(int num) {
+            if (count == 0) {
+                candidate = num;
+            }
+            count += (num == candidate) ? 1 : -1;
+        }
+
+        public Vote combine(Vote other) {
+            if (other.count == 0) return this;
+
+            if (count == 0 || candidate == other.candidate) {
+                candidate = other.candidate;
+                count += other.count;
+            } else if (count >= other.count) {
+                count -= other.count;
+            } else {
+                candidate = other.candidate;
+                count = other.count - count;
+            }
+            return this;
+        }
+
+        public int candidate() {
+            return candidate;
+        }
+
+        public long count() {
+            return count;
+        }
+    }
+
+    /**
+     * Collector form of the merged vote, usable on parallel streams:
+     *   stream.parallel().collect(MajorityElement.majorityCollector())
+     * Returns the surviving candidate; it is only guaranteed to be the
+     * majority if one exists, so verify it when that is not known.
+     */
+    public static Collector<Integer, Vote, Integer> majorityCollector() {
+        return Collector.of(Vote::new, Vote::accept, Vote::combine, Vote::candidate,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    private static final int CHUNK = 1 << 16;
+
+    /**
+     * Phase 1: Boyer Moore per chunk, merged up the fork/join tree.
+     */
+    private static final class VoteTask extends RecursiveTask<Vote> {
+        private static final long serialVersionUID = 1L;
+
+        private final IntBuffer data;
+        private final int from, to;
+
+        VoteTask(IntBuffer data, int from, int to) {
+            this.data = data;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Vote compute() {
+            if (to - from <= CHUNK) {
+                Vote vote = new Vote();
+                for (int i = from; i < to; i++) {
+                    vote.accept(data.get(i));
+                }
+                return vote;
+            }
+
+            int mid = (from + to) >>> 1;
+            VoteTask right = new VoteTask(data, mid, to);
+            right.fork();
+            Vote left = new VoteTask(data, from, mid).compute();
+            return left.combine(right.join());
+        }
+    }
+
+    /**
+     * Phase 2: count occurrences of the candidate in parallel.
+     */
+    private static final class CountTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final IntBuffer data;
+        private final int from, to;
+        private final int target;
+
+        CountTask(IntBuffer data, int from, int to, int target) {
+            this.data = data;
+            this.from = from;
+            this.to = to;
+            this.target = target;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= CHUNK) {
+                long count = 0;
+                for (int i = from; i < to; i++) {
+                    if (data.get(i) == target) count++;
+                }
+                return count;
+            }
+
+            int mid = (from + to) >>> 1;
+            CountTask right = new CountTask(data, mid, to, target);
+            right.fork();
+            long left = new CountTask(data, from, mid, target).compute();
+            return left + right.join();
+        }
+    }
+
+    /**
+     * Helper Method:
+     * Runs both phases over a list of int segments (one for an int[],
+     * several for a file larger than one memory mapping).
+     */
+    private static OptionalInt majorityOfSegments(List<IntBuffer> segments) {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        long n = 0;
+
+        List<VoteTask> votes = new ArrayList<>();
+        for (IntBuffer segment : segments) {
+            votes.add(new VoteTask(segment, 0, segment.limit()));
+            n += segment.limit();
+        }
+        if (n == 0) return OptionalInt.empty();
+
+        Vote merged = new Vote();
+        for (VoteTask task : pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(votes)))) {
+            merged.combine(task.join());
+        }
+
+        int candidate = merged.candidate();
+        List<CountTask> counts = new ArrayList<>();
+        for (IntBuffer segment : segments) {
+            counts.add(new CountTask(segment, 0, segment.limit(), candidate));
+        }
+
+        long occurrences = 0;
+        for (CountTask task : pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(counts)))) {
+            occurrences += task.join();
+        }
+
+        return occurrences > n / 2 ? OptionalInt.of(candidate) : OptionalInt.empty();
+    }
+
+    /**
+     * Approach 5: Parallel Boyer Moore (Fork/Join)
+     *
+     * Idea:
+     * - Split the array into chunks, run Boyer Moore on each chunk.
+     * - Merge (candidate, count) states up the fork/join tree.
+     * - Second parallel pass counts the candidate to verify it is > n/2.
+     *
+     * Time Complexity: O(n / p) for p cores
+     * Space Complexity: O(log n) (task stack)
+     */
+    public static OptionalInt majorityParallel(int[] nums) {
+        return majorityOfSegments(List.of(IntBuffer.wrap(nums)));
+    }
+
+    /**
+     * Approach 6: Parallel Boyer Moore over a Memory-Mapped File
+     *
+     * Idea:
+     * - The file is a flat array of 4-byte ints in the given byte order.
+     * - One mapping is limited to 2 GB, so the file is mapped as several
+     *   read-only segments; each is split into fork/join chunks like Approach 5.
+     * - Nothing is copied onto the heap.
+     *
+     * Time Complexity: O(n / p), bounded by disk / page cache bandwidth
+     * Space Complexity: O(number of segments)
+     */
+    public static OptionalInt majorityMappedFile(Path path, ByteOrder order) throws IOException {
+        final long segmentBytes = 1L << 30;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long totalBytes = channel.size() & ~3L; // whole ints only
+            List<IntBuffer> segments = new ArrayList<>();
+
+            for (long offset = 0; offset < totalBytes; offset += segmentBytes) {
+                long length = Math.min(segmentBytes, totalBytes - offset);
+                segments.add(channel.map(FileChannel.MapMode.READ_ONLY, offset, length)
+                        .order(order)
+                        .asIntBuffer());
+            }
+
+            return majorityOfSegments(segments);
+        }
+    }
+
     public static void main(String[] args) {
         int[] nums1 = {3, 2, 3};
         int[] nums2 = {2, 2, 1, 1, 1, 2, 2};
@@ -109,5 +328,7 @@ public class MajorityElement {
         System.out.println(majorityHashing(nums2));
         System.out.println(majoritySorting(nums2));
         System.out.println(majorityBoyerMoore(nums2));
+        System.out.println(majorityParallel(nums2));
+        System.out.println(java.util.Arrays.stream(nums2).boxed().parallel().collect(majorityCollector()));
     }
 }
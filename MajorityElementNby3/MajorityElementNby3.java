@@ -1,8 +1,10 @@
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 public class MajorityElementNby3 {
 
@@ -55,6 +57,18 @@ public class MajorityElementNby3 {
      * Stable: Yes
      */
     public static List<Integer> majorityHashing(int[] nums) {
+        return majorityHashing(nums, 3);
+    }
+
+    /**
+     * Hashing with a general threshold: elements whose frequency > n/k.
+     * Exact baseline for majorityGeneral (Approach 4).
+     */
+    public static List<Integer> majorityHashing(int[] nums, int k) {
+        if (k < 2) {
+            throw new IllegalArgumentException("k must be at least 2");
+        }
+
         List<Integer> result = new ArrayList<>();
         Map<Integer, Integer> freq = new HashMap<>();
         int n = nums.length;
@@ -64,7 +78,7 @@ public class MajorityElementNby3 {
         }
 
         for (Map.Entry<Integer, Integer> entry : freq.entrySet()) {
-            if (entry.getValue() > n / 3) {
+            if (entry.getValue() > n / k) {
                 result.add(entry.getKey());
             }
         }
@@ -127,11 +141,251 @@ public class MajorityElementNby3 {
         return result;
     }
 
+    /**
+     * Misra-Gries Heavy Hitters Summary
+     *
+     * Idea: - Keep at most k - 1 (item, count) pairs in primitive arrays - A
+     * tracked item increments its count, a new item takes a free slot - When all
+     * slots are full, decrement every count and drop the zeros - Any element
+     * with more than n/k occurrences is guaranteed to survive, and each stored
+     * count underestimates the true count by at most n/k - Two summaries merge
+     * by adding counts, then subtracting the k-th largest count and dropping
+     * non-positive entries, so shards or threads can be summarized separately
+     *
+     * Time Complexity: O(k) worst case per element, O(k log k) per merge Space
+     * Complexity: O(k)
+     */
+    public static final class HeavyHitters {
+        private final int k;
+        private final int[] items;
+        private final long[] counts;
+        private int size;
+        private long total;
+
+        public HeavyHitters(int k) {
+            if (k < 2) {
+                throw new IllegalArgumentException("k must be at least 2");
+            }
+            this.k = k;
+            // Room for two full summaries while merging
+            this.items = new int[2 * (k - 1)];
+            this.counts = new long[2 * (k - 1)];
+        }
+
+        public void offer(int num) {
+            total++;
+
+            for (int i = 0; i < size; i++) {
+                if (items[i] == num) {
+                    counts[i]++;
+                    return;
+                }
+            }
+
+            if (size < k - 1) {
+                items[size] = num;
+                counts[size] = 1;
+                size++;
+                return;
+            }
+
+            // All k - 1 slots taken: the new element cancels one of each
+            int write = 0;
+            for (int i = 0; i < size; i++) {
+                if (--counts[i] > 0) {
+                    items[write] = items[i];
+                    counts[write] = counts[i];
+                    write++;
+                }
+            }
+            size = write;
+        }
+
+        public void offerAll(int[] nums, int from, int to) {
+            for (int i = from; i < to; i++) {
+                offer(nums[i]);
+            }
+        }
+
+        public HeavyHitters merge(HeavyHitters other) {
+            if (other.k != k) {
+                throw new IllegalArgumentException("Cannot merge summaries with different k");
+            }
+            total += other.total;
+
+            for (int j = 0; j < other.size; j++) {
+                int i = 0;
+                while (i < size && items[i] != other.items[j]) {
+                    i++;
+                }
+                if (i == size) {
+                    items[size] = other.items[j];
+                    counts[size] = 0;
+                    size++;
+                }
+                counts[i] += other.counts[j];
+            }
+
+            if (size > k - 1) {
+                long[] sorted = Arrays.copyOf(counts, size);
+                Arrays.sort(sorted);
+                long kth = sorted[size - k]; // k-th largest
+
+                int write = 0;
+                for (int i = 0; i < size; i++) {
+                    if (counts[i] > kth) {
+                        items[write] = items[i];
+                        counts[write] = counts[i] - kth;
+                        write++;
+                    }
+                }
+                size = write;
+            }
+
+            return this;
+        }
+
+        /**
+         * Every element above total / k is among these (plus false positives).
+         */
+        public int[] candidates() {
+            return Arrays.copyOf(items, size);
+        }
+
+        /**
+         * Lower bound on the count of num (true count - total / k at worst).
+         */
+        public long estimate(int num) {
+            for (int i = 0; i < size; i++) {
+                if (items[i] == num) {
+                    return counts[i];
+                }
+            }
+            return 0;
+        }
+
+        public long total() {
+            return total;
+        }
+
+        /**
+         * Optional exact pass: keeps only candidates with count > n / k.
+         */
+        public List<Integer> verify(int[] nums) {
+            int[] sortedCandidates = candidates();
+            Arrays.sort(sortedCandidates);
+            long[] exact = new long[sortedCandidates.length];
+
+            for (int num : nums) {
+                int pos = Arrays.binarySearch(sortedCandidates, num);
+                if (pos >= 0) {
+                    exact[pos]++;
+                }
+            }
+
+            List<Integer> result = new ArrayList<>();
+            for (int i = 0; i < sortedCandidates.length; i++) {
+                if (exact[i] > nums.length / k) {
+                    result.add(sortedCandidates[i]);
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Approach 4: Generalized Misra-Gries (elements above n/k)
+     *
+     * Idea: - Summarize the array with k - 1 counters - Verify the surviving
+     * candidates with a second pass - k = 3 gives the same answer as Approach 3
+     *
+     * Time Complexity: O(n * k) worst case Space Complexity: O(k)
+     *
+     * Stable: No (result is sorted by value)
+     */
+    public static List<Integer> majorityGeneral(int[] nums, int k) {
+        HeavyHitters summary = new HeavyHitters(k);
+        summary.offerAll(nums, 0, nums.length);
+        return summary.verify(nums);
+    }
+
+    /**
+     * Approach 5: Parallel Misra-Gries
+     *
+     * Idea: - Each chunk builds its own summary on its own thread - Summaries
+     * are merged, then the candidates are verified
+     *
+     * Time Complexity: O(n * k / p + p * k log k) Space Complexity: O(p * k)
+     *
+     * Stable: No (result is sorted by value)
+     */
+    public static List<Integer> majorityGeneralParallel(int[] nums, int k) {
+        int chunk = 1 << 16;
+        int chunks = (nums.length + chunk - 1) / chunk;
+
+        HeavyHitters summary = IntStream.range(0, chunks).parallel()
+                .mapToObj(c -> {
+                    HeavyHitters local = new HeavyHitters(k);
+                    local.offerAll(nums, c * chunk, Math.min(nums.length, (c + 1) * chunk));
+                    return local;
+                })
+                .reduce(HeavyHitters::merge) // merge mutates, so no shared identity
+                .orElseGet(() -> new HeavyHitters(k));
+
+        return summary.verify(nums);
+    }
+
+    /**
+     * Benchmark: majorityHashing(nums, k) vs Misra-Gries (sequential and parallel).
+     * Skewed input so one element crosses n/k. Run: java MajorityElementNby3
+     * bench 10000000 3
+     */
+    static void benchmark(int n, int k) {
+        java.util.Random random = new java.util.Random(42);
+        int[] nums = new int[n];
+        for (int i = 0; i < n; i++) {
+            nums[i] = random.nextInt(5) < 2 ? 0 : random.nextInt(1_000_000); // 0 is ~40%
+        }
+
+        for (int round = 0; round < 3; round++) { // first rounds warm up the JIT
+            long start = System.nanoTime();
+            List<Integer> hashing = majorityHashing(nums, k);
+            long hashingMs = (System.nanoTime() - start) / 1_000_000;
+
+            start = System.nanoTime();
+            List<Integer> general = majorityGeneral(nums, k);
+            long generalMs = (System.nanoTime() - start) / 1_000_000;
+
+            start = System.nanoTime();
+            List<Integer> parallel = majorityGeneralParallel(nums, k);
+            long parallelMs = (System.nanoTime() - start) / 1_000_000;
+
+            if (!sorted(hashing).equals(sorted(general)) || !sorted(hashing).equals(sorted(parallel))) {
+                throw new IllegalStateException("results differ: " + hashing + " " + general + " " + parallel);
+            }
+            System.out.printf("n=%,d k=%d round=%d  hashing: %d ms %s  misra-gries: %d ms %s  parallel: %d ms %s%n",
+                    n, k, round, hashingMs, hashing, generalMs, general, parallelMs, parallel);
+        }
+    }
+
+    private static List<Integer> sorted(List<Integer> values) {
+        List<Integer> copy = new ArrayList<>(values);
+        copy.sort(null);
+        return copy;
+    }
+
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("bench")) {
+            benchmark(args.length > 1 ? Integer.parseInt(args[1]) : 10_000_000,
+                    args.length > 2 ? Integer.parseInt(args[2]) : 3);
+            return;
+        }
         int[] nums = {1, 1, 1, 3, 3, 2, 2, 2};
 
         System.out.println(majorityBrute(nums));
         System.out.println(majorityHashing(nums));
         System.out.println(majorityOptimal(nums));
+        System.out.println(majorityGeneral(nums, 3));
+        System.out.println(majorityGeneralParallel(nums, 4));
     }
 }
@@ -1,3 +1,6 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
 public class MaximumConsecutiveOnes {
 
     /**
@@ -195,6 +198,312 @@ public class MaximumConsecutiveOnes {
         return maxStreak;
     }
 
+    /**
+     * Bit-packed binary array: bit i lives in words[i / 64] at position i % 64
+     * (least significant bit first, same layout as java.util.BitSet).
+     *
+     * Why:
+     * - One long carries 64 array entries, so a scan reads 1/32 of the memory
+     *   an int[] of 0s and 1s needs.
+     * - Bits at positions >= length in the last word are ignored.
+     *
+     * Edge cases:
+     * - words is null -> IllegalArgumentException.
+     * - length < 0 or more bits than words can hold -> IllegalArgumentException.
+     */
+    public static final class PackedBits {
+        private final long[] words;
+        private final long length;
+
+        public PackedBits(long[] words, long length) {
+            if (words == null) {
+                throw new IllegalArgumentException("Words must not be null");
+            }
+            if (length < 0 || length > 64L * words.length) {
+                throw new IllegalArgumentException("Length " + length + " does not fit in " + words.length + " words");
+            }
+            this.words = words;
+            this.length = length;
+        }
+
+        /** Packs an int array; every value equal to 1 becomes a set bit. */
+        public static PackedBits of(int[] nums) {
+            if (nums == null) {
+                throw new IllegalArgumentException("Array must not be null");
+            }
+
+            long[] words = new long[(nums.length + 63) >>> 6];
+            for (int i = 0; i < nums.length; i++) {
+                if (nums[i] == 1) {
+                    words[i >>> 6] |= 1L << i; // shift count is taken mod 64
+                }
+            }
+            return new PackedBits(words, nums.length);
+        }
+
+        public long length() {
+            return length;
+        }
+
+        public boolean get(long index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+            }
+            return (words[(int) (index >>> 6)] & (1L << index)) != 0;
+        }
+
+        int wordCount() {
+            return (int) ((length + 63) >>> 6);
+        }
+
+        /** Word i with the bits past length cleared. */
+        long word(int i) {
+            long w = words[i];
+            int tail = (int) (length & 63);
+            if (tail != 0 && i == wordCount() - 1) {
+                w &= (1L << tail) - 1;
+            }
+            return w;
+        }
+
+        /** Number of valid bits in word i (64 except possibly the last word). */
+        int bitsIn(int i) {
+            return (int) Math.min(64, length - 64L * i);
+        }
+    }
+
+    /**
+     * Run summary of a range of bits: mergeable, so ranges can be scanned
+     * independently and combined left to right.
+     */
+    static final class Run {
+        long length; // bits in the range
+        long prefix; // ones at the start of the range
+        long suffix; // ones at the end of the range
+        long best;   // longest run inside the range
+
+        static Run combine(Run left, Run right) {
+            Run run = new Run();
+            run.length = left.length + right.length;
+            run.prefix = left.prefix == left.length ? left.length + right.prefix : left.prefix;
+            run.suffix = right.suffix == right.length ? right.length + left.suffix : right.suffix;
+            run.best = Math.max(Math.max(left.best, right.best), left.suffix + right.prefix);
+            return run;
+        }
+    }
+
+    /**
+     * Scans words [fromWord, toWord) of bits.
+     *
+     * - All-zero word: ends the current run.
+     * - All-one word: extends the current run by 64 in one step.
+     * - Mixed word: the ones below the lowest zero extend the current run
+     *   (numberOfTrailingZeros(~w)), the ones above the highest zero start a
+     *   new one (numberOfLeadingZeros(~w)), and inner runs are found by
+     *   jumping from zero block to one block with numberOfTrailingZeros.
+     */
+    static Run summarize(PackedBits bits, int fromWord, int toWord) {
+        Run run = new Run();
+        long current = 0;
+        boolean allOnes = true;
+
+        for (int i = fromWord; i < toWord; i++) {
+            int valid = bits.bitsIn(i);
+            long w = bits.word(i);
+            long full = valid == 64 ? -1L : (1L << valid) - 1;
+
+            if (w == full) {
+                current += valid;
+                continue;
+            }
+
+            int low = Long.numberOfTrailingZeros(~w);
+            current += low;
+            if (allOnes) {
+                run.prefix = current;
+                allOnes = false;
+            }
+            run.best = Math.max(run.best, current);
+
+            if (w != 0) {
+                long x = w >>> low;
+                while (x != 0) {
+                    x >>>= Long.numberOfTrailingZeros(x);
+                    int ones = Long.numberOfTrailingZeros(~x);
+                    run.best = Math.max(run.best, ones);
+                    x >>>= ones; // ones < 64 because bit 'low' was zero
+                }
+            }
+
+            // Ones above the highest zero; the padding bits of a short last word do not count
+            current = Long.numberOfLeadingZeros(~w & full) - (64 - valid);
+        }
+
+        run.length = toWord > fromWord ? 64L * (toWord - fromWord) - (64 - bits.bitsIn(toWord - 1)) : 0;
+        if (allOnes) {
+            run.prefix = current;
+        }
+        run.suffix = current;
+        run.best = Math.max(run.best, current);
+        return run;
+    }
+
+    /**
+     * Approach 4: Word-level scan over bit-packed input.
+     *
+     * Idea:
+     * - Same running counter as the better approach, but 64 entries at a time.
+     * - Whole words of zeros or ones cost one comparison each; only mixed
+     *   words look at their run boundaries, via Long.numberOfTrailingZeros
+     *   and Long.numberOfLeadingZeros.
+     *
+     * Edge cases:
+     * - bits is null -> IllegalArgumentException.
+     * - length 0 -> return 0.
+     *
+     * Time Complexity: O(n / 64 + number of runs inside mixed words)
+     *
+     * Space Complexity: O(1)
+     *
+     * Example test cases:
+     * - PackedBits.of([1, 1, 0, 1, 1, 1]) -> 3
+     * - PackedBits.of(200 ones)           -> 200 (three whole words plus 8 bits)
+     */
+    public static long maxConsecutiveOnesPacked(PackedBits bits) {
+        if (bits == null) {
+            throw new IllegalArgumentException("Bits must not be null");
+        }
+        return summarize(bits, 0, bits.wordCount()).best;
+    }
+
+    /** Minimum number of words handed to one parallel task (512 KB of bits) */
+    private static final int MIN_CHUNK_WORDS = 1 << 16;
+
+    /**
+     * Approach 5: Parallel word-level scan.
+     *
+     * Idea:
+     * - Split the words into chunks and summarize each chunk independently as
+     *   (prefix ones, suffix ones, best run, length).
+     * - Merge chunks left to right: a run crossing a boundary is the left
+     *   suffix plus the right prefix, and a chunk that is all ones carries
+     *   the run straight through.
+     *
+     * Edge cases:
+     * - Same as approach 4; small inputs fall back to a single chunk.
+     *
+     * Time Complexity: O(n / (64 p) + chunks) for p cores
+     *
+     * Space Complexity: O(chunks)
+     */
+    public static long maxConsecutiveOnesPackedParallel(PackedBits bits) {
+        if (bits == null) {
+            throw new IllegalArgumentException("Bits must not be null");
+        }
+
+        int words = bits.wordCount();
+        if (words == 0) {
+            return 0;
+        }
+
+        int target = ForkJoinPool.getCommonPoolParallelism() * 4;
+        int chunk = Math.max(MIN_CHUNK_WORDS, (words + target - 1) / target);
+        int chunks = (words + chunk - 1) / chunk;
+
+        return IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(c -> summarize(bits, c * chunk, Math.min(words, c * chunk + chunk)))
+                .reduce(Run::combine)
+                .get()
+                .best;
+    }
+
+    /**
+     * Walks the zero bits of a PackedBits in increasing order.
+     * Whole words of ones are skipped in one step (their inverse is 0).
+     */
+    private static final class ZeroCursor {
+        private final PackedBits bits;
+        private final int words;
+        private int index = -1;
+        private long zeros; // remaining zero bits of word 'index', as set bits
+
+        ZeroCursor(PackedBits bits) {
+            this.bits = bits;
+            this.words = bits.wordCount();
+        }
+
+        /** Position of the next zero bit, or length once there are none left. */
+        long next() {
+            while (zeros == 0) {
+                if (++index >= words) {
+                    index = words;
+                    return bits.length();
+                }
+                int valid = bits.bitsIn(index);
+                long full = valid == 64 ? -1L : (1L << valid) - 1;
+                zeros = ~bits.word(index) & full;
+            }
+
+            long position = 64L * index + Long.numberOfTrailingZeros(zeros);
+            zeros &= zeros - 1; // clear lowest set bit
+            return position;
+        }
+    }
+
+    /**
+     * Approach 6: Max consecutive ones with at most k zeros flipped, on
+     * bit-packed input.
+     *
+     * Idea:
+     * - With zero positions z1 < z2 < ... and sentinels z0 = -1 and
+     *   z(last) = length, the longest window holding at most k zeros lies
+     *   strictly between z(i) and z(i + k + 1).
+     * - Two cursors walk the zeros k + 1 apart; the answer is the widest gap
+     *   z(i + k + 1) - z(i) - 1.
+     *
+     * Edge cases:
+     * - bits is null -> IllegalArgumentException.
+     * - k < 0 -> IllegalArgumentException.
+     * - k = 0 -> same as approach 4.
+     * - At most k zeros in total -> return length.
+     *
+     * Time Complexity: O(n / 64 + number of zeros)
+     *
+     * Space Complexity: O(1), the cursors hold one word each
+     *
+     * Example test cases:
+     * - [1, 1, 0, 0, 1, 1, 1, 0, 1], k = 1 -> 5
+     * - [0, 0, 0], k = 2                   -> 2
+     */
+    public static long maxConsecutiveOnesWithFlips(PackedBits bits, int k) {
+        if (bits == null) {
+            throw new IllegalArgumentException("Bits must not be null");
+        }
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+
+        long length = bits.length();
+        ZeroCursor leftZeros = new ZeroCursor(bits);
+        ZeroCursor rightZeros = new ZeroCursor(bits);
+
+        long left = -1;
+        long right = -1;
+        for (int i = 0; i <= k && right < length; i++) {
+            right = rightZeros.next();
+        }
+
+        long best = right - left - 1;
+        while (right < length) {
+            left = leftZeros.next();
+            right = rightZeros.next();
+            best = Math.max(best, right - left - 1);
+        }
+
+        return best;
+    }
+
     public static void main(String[] args) {
         int[] nums1 = {1, 1, 0, 1, 1, 1};     // answer 3
         int[] nums2 = {1, 0, 1, 1, 0, 1};     // answer 2
@@ -213,6 +522,8 @@ public class MaximumConsecutiveOnes {
             System.out.println("Brute:     " + maxConsecutiveOnesBrute(arr));
             System.out.println("Better:    " + maxConsecutiveOnesBetter(arr));
             System.out.println("Optimised: " + maxConsecutiveOnesOptimised(arr));
+            System.out.println("Packed:    " + maxConsecutiveOnesPacked(PackedBits.of(arr)));
+            System.out.println("Flip 1:    " + maxConsecutiveOnesWithFlips(PackedBits.of(arr), 1));
             System.out.println();
         }
     }
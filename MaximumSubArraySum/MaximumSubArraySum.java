@@ -1,3 +1,6 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 public class MaximumSubArraySum {
 
     /**
@@ -18,6 +21,15 @@ public class MaximumSubArraySum {
      * - Update maxSum whenever a higher sum is found
      */
     public static void bruteForce(int[] arr) {
+        Result result = bruteForce(arr, new Result());
+        printResult(arr, result.sum(), result.start(), result.end());
+    }
+
+    /**
+     * Same as bruteForce(int[]) but writes (sum, start, end) into a
+     * caller-supplied holder instead of printing. No allocation.
+     */
+    public static Result bruteForce(int[] arr, Result out) {
         int maxSum = Integer.MIN_VALUE;
         int start = 0, end = 0;
 
@@ -33,7 +45,7 @@ public class MaximumSubArraySum {
             }
         }
 
-        printResult(arr, maxSum, start, end);
+        return out.set(maxSum, start, end);
     }
 
     /**
@@ -52,6 +64,15 @@ public class MaximumSubArraySum {
      * - Same as brute but avoids recomputation of subarray sums
      */
     public static void betterApproach(int[] arr) {
+        Result result = betterApproach(arr, new Result());
+        printResult(arr, result.sum(), result.start(), result.end());
+    }
+
+    /**
+     * Same as betterApproach(int[]) but writes (sum, start, end) into a
+     * caller-supplied holder instead of printing. No allocation.
+     */
+    public static Result betterApproach(int[] arr, Result out) {
         int maxSum = Integer.MIN_VALUE;
         int start = 0, end = 0;
 
@@ -67,7 +88,7 @@ public class MaximumSubArraySum {
             }
         }
 
-        printResult(arr, maxSum, start, end);
+        return out.set(maxSum, start, end);
     }
 
     /**
@@ -88,6 +109,15 @@ public class MaximumSubArraySum {
      * - Update max sum when a better sum is found
      */
     public static void optimalKadane(int[] arr) {
+        Result result = optimalKadane(arr, new Result());
+        printResult(arr, result.sum(), result.start(), result.end());
+    }
+
+    /**
+     * Same as optimalKadane(int[]) but writes (sum, start, end) into a
+     * caller-supplied holder instead of printing. No allocation.
+     */
+    public static Result optimalKadane(int[] arr, Result out) {
         int maxSum = Integer.MIN_VALUE;
         int currSum = 0;
         int start = 0, tempStart = 0, end = 0;
@@ -107,7 +137,307 @@ public class MaximumSubArraySum {
             }
         }
 
-        printResult(arr, maxSum, start, end);
+        return out.set(maxSum, start, end);
+    }
+
+    /**
+     * Kadane summaries of many segments in flat arrays, one slot per segment,
+     * all sums in long.
+     *
+     * - total:  sum of the whole segment
+     * - prefix: best sum of a prefix, ending at prefixEnd
+     * - suffix: best sum of a suffix, starting at suffixStart
+     * - best:   best subarray inside the segment, [bestStart, bestEnd]
+     *
+     * Ties are broken like optimalKadane: larger sum, then smaller end,
+     * then smaller start. That is why prefixes prefer the shortest and
+     * suffixes the longest candidate.
+     */
+    static final class Summaries {
+        final long[] total, prefix, suffix, best;
+        final int[] prefixEnd, suffixStart, bestStart, bestEnd;
+
+        Summaries(int size) {
+            total = new long[size];
+            prefix = new long[size];
+            suffix = new long[size];
+            best = new long[size];
+            prefixEnd = new int[size];
+            suffixStart = new int[size];
+            bestStart = new int[size];
+            bestEnd = new int[size];
+        }
+
+        /**
+         * slot = summary of arr[from..to), from < to, with one Kadane pass
+         * plus one backward pass for the suffix.
+         */
+        void scan(int slot, int[] arr, int from, int to) {
+            long run = 0;
+            long maxPrefix = Long.MIN_VALUE;
+            long maxBest = Long.MIN_VALUE;
+            long curr = 0;
+            int tempStart = from;
+
+            for (int i = from; i < to; i++) {
+                run += arr[i];
+                if (run > maxPrefix) {
+                    maxPrefix = run;
+                    prefixEnd[slot] = i;
+                }
+
+                curr += arr[i];
+                if (curr > maxBest) {
+                    maxBest = curr;
+                    bestStart[slot] = tempStart;
+                    bestEnd[slot] = i;
+                }
+                if (curr < 0) {
+                    curr = 0;
+                    tempStart = i + 1;
+                }
+            }
+            total[slot] = run;
+            prefix[slot] = maxPrefix;
+            best[slot] = maxBest;
+
+            run = 0;
+            long maxSuffix = Long.MIN_VALUE;
+            for (int i = to - 1; i >= from; i--) {
+                run += arr[i];
+                if (run >= maxSuffix) {
+                    maxSuffix = run;
+                    suffixStart[slot] = i;
+                }
+            }
+            suffix[slot] = maxSuffix;
+        }
+
+        /**
+         * slot = summary of the single element value at index.
+         */
+        void leaf(int slot, int index, int value) {
+            total[slot] = prefix[slot] = suffix[slot] = best[slot] = value;
+            prefixEnd[slot] = suffixStart[slot] = bestStart[slot] = bestEnd[slot] = index;
+        }
+
+        void copy(int dst, int src) {
+            total[dst] = total[src];
+            prefix[dst] = prefix[src];
+            suffix[dst] = suffix[src];
+            best[dst] = best[src];
+            prefixEnd[dst] = prefixEnd[src];
+            suffixStart[dst] = suffixStart[src];
+            bestStart[dst] = bestStart[src];
+            bestEnd[dst] = bestEnd[src];
+        }
+
+        /**
+         * dst = summary of segment a followed by segment b (associative).
+         * Everything is read before dst is written, so dst may be a or b.
+         */
+        void combine(int dst, int a, int b) {
+            long newPrefix, newSuffix, newBest;
+            int newPrefixEnd, newSuffixStart, newBestStart, newBestEnd;
+
+            long extendedPrefix = total[a] + prefix[b];
+            if (prefix[a] >= extendedPrefix) {
+                newPrefix = prefix[a];
+                newPrefixEnd = prefixEnd[a];
+            } else {
+                newPrefix = extendedPrefix;
+                newPrefixEnd = prefixEnd[b];
+            }
+
+            long extendedSuffix = total[b] + suffix[a];
+            if (extendedSuffix >= suffix[b]) {
+                newSuffix = extendedSuffix;
+                newSuffixStart = suffixStart[a];
+            } else {
+                newSuffix = suffix[b];
+                newSuffixStart = suffixStart[b];
+            }
+
+            // Candidates in order of increasing end on ties: a, crossing, b
+            newBest = best[a];
+            newBestStart = bestStart[a];
+            newBestEnd = bestEnd[a];
+
+            long crossing = suffix[a] + prefix[b];
+            if (crossing > newBest) {
+                newBest = crossing;
+                newBestStart = suffixStart[a];
+                newBestEnd = prefixEnd[b];
+            }
+            if (best[b] > newBest || (best[b] == newBest && newBestEnd > bestEnd[b])) {
+                newBest = best[b];
+                newBestStart = bestStart[b];
+                newBestEnd = bestEnd[b];
+            }
+
+            total[dst] = total[a] + total[b];
+            prefix[dst] = newPrefix;
+            prefixEnd[dst] = newPrefixEnd;
+            suffix[dst] = newSuffix;
+            suffixStart[dst] = newSuffixStart;
+            best[dst] = newBest;
+            bestStart[dst] = newBestStart;
+            bestEnd[dst] = newBestEnd;
+        }
+    }
+
+    /**
+     * Writes the summary of arr[from..to) into out at slot. Children go to
+     * 2 * slot and 2 * slot + 1, so a tree over c chunks needs 4 * c slots.
+     */
+    private static final class KadaneTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private static final int CHUNK = 1 << 16;
+
+        private final int[] arr;
+        private final int from, to;
+        private final Summaries out;
+        private final int slot;
+
+        KadaneTask(int[] arr, int from, int to, Summaries out, int slot) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+            this.out = out;
+            this.slot = slot;
+        }
+
+        static Summaries run(int[] arr) {
+            int chunks = (int) ((arr.length + (long) CHUNK - 1) / CHUNK);
+            Summaries out = new Summaries(4 * chunks);
+            ForkJoinPool.commonPool().invoke(new KadaneTask(arr, 0, arr.length, out, 1));
+            return out;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK) {
+                out.scan(slot, arr, from, to);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            KadaneTask right = new KadaneTask(arr, mid, to, out, 2 * slot + 1);
+            right.fork();
+            new KadaneTask(arr, from, mid, out, 2 * slot).compute();
+            right.join();
+            out.combine(slot, 2 * slot, 2 * slot + 1);
+        }
+    }
+
+    /**
+     * PARALLEL APPROACH (Divide and Conquer Kadane)
+     *
+     * Idea:
+     * - Summarize each chunk as (total, bestPrefix, bestSuffix, best) with indices
+     * - Two neighbouring summaries combine in O(1); the best subarray is the
+     *   left best, the right best, or left suffix + right prefix
+     * - Chunks are summarized on a fork/join pool and combined up the tree
+     *
+     * Time Complexity: O(n / p + log n) for p cores
+     * Space Complexity: O(n / CHUNK) summary slots plus O(log n) stack
+     *
+     * Stable: Yes
+     *
+     * How it works:
+     * - Ties are broken exactly like optimalKadane, so start / end match
+     * - All sums are long; this variant throws ArithmeticException if the
+     *   best sum does not fit in an int (use optimalKadaneParallelLong)
+     */
+    public static Result optimalKadaneParallel(int[] arr, Result out) {
+        if (arr.length == 0) {
+            return out.set(Integer.MIN_VALUE, 0, 0);
+        }
+
+        Summaries root = KadaneTask.run(arr);
+        return out.set(Math.toIntExact(root.best[1]), root.bestStart[1], root.bestEnd[1]);
+    }
+
+    /**
+     * Long-sum variant of optimalKadaneParallel: no overflow for any int[].
+     */
+    public static LongResult optimalKadaneParallelLong(int[] arr, LongResult out) {
+        if (arr.length == 0) {
+            return out.set(Long.MIN_VALUE, 0, 0);
+        }
+
+        Summaries root = KadaneTask.run(arr);
+        return out.set(root.best[1], root.bestStart[1], root.bestEnd[1]);
+    }
+
+    /**
+     * Long-sum counterpart of Result.
+     */
+    public static final class LongResult {
+        private long sum;
+        private int start;
+        private int end;
+
+        public LongResult set(long sum, int start, int end) {
+            this.sum = sum;
+            this.start = start;
+            this.end = end;
+            return this;
+        }
+
+        public long sum() {
+            return sum;
+        }
+
+        public int start() {
+            return start;
+        }
+
+        public int end() {
+            return end;
+        }
+
+        @Override
+        public String toString() {
+            return "LongResult{sum=" + sum + ", start=" + start + ", end=" + end + "}";
+        }
+    }
+
+    /**
+     * Reusable result holder: (sum, start, end) of the best subarray.
+     *
+     * - Mutable on purpose: a caller can keep one instance per thread and
+     *   reuse it for every call, so the hot path allocates nothing.
+     * - For an empty array the sum stays Integer.MIN_VALUE.
+     */
+    public static final class Result {
+        private int sum;
+        private int start;
+        private int end;
+
+        public Result set(int sum, int start, int end) {
+            this.sum = sum;
+            this.start = start;
+            this.end = end;
+            return this;
+        }
+
+        public int sum() {
+            return sum;
+        }
+
+        public int start() {
+            return start;
+        }
+
+        public int end() {
+            return end;
+        }
+
+        @Override
+        public String toString() {
+            return "Result{sum=" + sum + ", start=" + start + ", end=" + end + "}";
+        }
     }
 
     private static void printResult(int[] arr, int sum, int start, int end) {
@@ -118,11 +448,140 @@ public class MaximumSubArraySum {
         System.out.println();
     }
 
+    /**
+     * SEGMENT TREE APPROACH (Range Queries with Point Updates)
+     *
+     * Idea:
+     * - Every node stores the Kadane summary of its range
+     *   (total, bestPrefix, bestSuffix, best) with indices
+     * - A parent is the Summaries.combine of its two children
+     * - A query combines the O(log n) nodes covering [l, r] left to right
+     *
+     * Time Complexity: O(n) build, O(log n) update and query
+     * Space Complexity: O(n), flat primitive arrays, no node objects
+     *
+     * How it works:
+     * - Same tie-breaking as optimalKadane, so query(l, r) reports the same
+     *   start / end as optimalKadane on the copy of arr[l..r] (shifted by l)
+     * - Not thread-safe: queries accumulate into the unused slot 0
+     */
+    public static final class RangeTree {
+        private final int n;
+
+        // Heap layout, root at 1; slot 0 is the query accumulator
+        private final Summaries nodes;
+        private boolean accEmpty;
+
+        public RangeTree(int[] arr) {
+            n = arr.length;
+            nodes = new Summaries(Math.max(1, 4 * n));
+
+            if (n > 0) {
+                build(arr, 1, 0, n - 1);
+            }
+        }
+
+        public int size() {
+            return n;
+        }
+
+        /**
+         * arr[index] = value, O(log n).
+         */
+        public void update(int index, int value) {
+            if (index < 0 || index >= n) {
+                throw new IndexOutOfBoundsException("index " + index + " out of [0, " + n + ")");
+            }
+            update(1, 0, n - 1, index, value);
+        }
+
+        /**
+         * Maximum subarray inside arr[l..r] (inclusive), O(log n).
+         * Indices in the result are positions in the whole array.
+         */
+        public LongResult query(int l, int r, LongResult out) {
+            if (l < 0 || r >= n || l > r) {
+                throw new IndexOutOfBoundsException("range [" + l + ", " + r + "] out of [0, " + n + ")");
+            }
+
+            accEmpty = true;
+            query(1, 0, n - 1, l, r);
+            return out.set(nodes.best[0], nodes.bestStart[0], nodes.bestEnd[0]);
+        }
+
+        private void build(int[] arr, int node, int lo, int hi) {
+            if (lo == hi) {
+                nodes.leaf(node, lo, arr[lo]);
+                return;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            build(arr, 2 * node, lo, mid);
+            build(arr, 2 * node + 1, mid + 1, hi);
+            pull(node);
+        }
+
+        private void update(int node, int lo, int hi, int index, int value) {
+            if (lo == hi) {
+                nodes.leaf(node, lo, value);
+                return;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            if (index <= mid) {
+                update(2 * node, lo, mid, index, value);
+            } else {
+                update(2 * node + 1, mid + 1, hi, index, value);
+            }
+            pull(node);
+        }
+
+        private void query(int node, int lo, int hi, int l, int r) {
+            if (r < lo || hi < l) {
+                return;
+            }
+            if (l <= lo && hi <= r) {
+                absorb(node);
+                return;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            query(2 * node, lo, mid, l, r);
+            query(2 * node + 1, mid + 1, hi, l, r);
+        }
+
+        private void pull(int node) {
+            nodes.combine(node, 2 * node, 2 * node + 1);
+        }
+
+        /**
+         * acc = combine(acc, node); nodes arrive left to right.
+         */
+        private void absorb(int node) {
+            if (accEmpty) {
+                accEmpty = false;
+                nodes.copy(0, node);
+            } else {
+                nodes.combine(0, 0, node);
+            }
+        }
+    }
+
     public static void main(String[] args) {
         int[] arr = {-2, 1, -3, 4, -1, 2, 1, -5, 4};
 
         bruteForce(arr);
         betterApproach(arr);
         optimalKadane(arr);
+
+        Result result = new Result();
+        System.out.println(optimalKadane(arr, result));
+        System.out.println(optimalKadaneParallel(arr, result));
+        System.out.println(optimalKadaneParallelLong(arr, new LongResult()));
+
+        RangeTree tree = new RangeTree(arr);
+        System.out.println(tree.query(0, 2, new LongResult()));
+        tree.update(7, 5);
+        System.out.println(tree.query(3, 8, new LongResult()));
     }
 }
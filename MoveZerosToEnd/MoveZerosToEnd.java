@@ -1,3 +1,7 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
 
 public class MoveZerosToEnd {
 
@@ -50,6 +54,12 @@ public class MoveZerosToEnd {
      * Edge cases: - null array -> IllegalArgumentException - [] -> nothing to
      * move - [0,0,0] -> stays same - [1,2,3] -> stays same - [0,1,0,3,12] ->
      * becomes [1,3,12,0,0]
+     *
+     * Why not the partition engine: zeros are interchangeable, so only the
+     * non-zero group needs its order kept. That makes this single O(n) pass a
+     * cheaper stable partition than the O(n log n) rotation mode
+     * (moveZerosStablePartition) or the O(n)-buffer scatter mode
+     * (moveZerosParallel).
      */
     public static void moveZerosOptimised(int[] arr) {
         if (arr == null) {
@@ -72,6 +82,150 @@ public class MoveZerosToEnd {
         }
     }
 
+    /**
+     * Stable partition approach (in place, no buffer) built on the generic
+     * stable partition engine (see Algos/StablePartition).
+     *
+     * Idea: - Zeros vs non-zeros is just the predicate x != 0 - Rotation based
+     * stable partition keeps the order of both groups
+     *
+     * Time Complexity: O(n log n) Space Complexity: O(log n)
+     *
+     * Edge cases: - null array -> IllegalArgumentException - [] ->
+     * nothing to move - [0,1,0,3,12] -> becomes [1,3,12,0,0]
+     */
+    public static void moveZerosStablePartition(int[] arr) {
+        Partition.partitionInPlace(arr, x -> x != 0);
+    }
+
+    /**
+     * Parallel approach built on the prefix-sum scatter mode of the stable
+     * partition engine (see Algos/StablePartition).
+     *
+     * Idea: - Each chunk counts its non-zeros, a prefix scan gives write
+     * offsets, chunks scatter in parallel into a buffer that is copied back
+     *
+     * Time Complexity: O(n / p) for p cores Space Complexity: O(n)
+     *
+     * Edge cases: - null array -> IllegalArgumentException - [] ->
+     * nothing to move - [0,1,0,3,12] -> becomes [1,3,12,0,0]
+     */
+    public static void moveZerosParallel(int[] arr) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array must be non-null");
+        }
+        Partition.partitionParallel(arr, x -> x != 0);
+    }
+
+    /**
+     * Stable partition helper: a private copy of Algos/StablePartition so this
+     * file still compiles on its own.
+     *
+     * - partitionInPlace: split in halves, partition both, rotate [F1 T2]
+     *   into [T2 F1]. O(n log n) time, no buffer.
+     * - partitionInto: count matches per chunk, prefix sums give each chunk
+     *   its write offsets, chunks scatter in parallel. O(n / p) time.
+     * Both return the number of elements where the predicate is true.
+     */
+    private static final class Partition {
+        private static final int MIN_CHUNK = 1 << 16;
+
+        static int partitionInPlace(int[] arr, IntPredicate predicate) {
+            if (arr == null) {
+                throw new IllegalArgumentException("Array must be non-null");
+            }
+
+            // Leading matches and trailing non-matches are already in place
+            int low = 0, high = arr.length;
+            while (low < high && predicate.test(arr[low])) low++;
+            while (low < high && !predicate.test(arr[high - 1])) high--;
+
+            return partitionRange(arr, low, high, predicate);
+        }
+
+        private static int partitionRange(int[] arr, int low, int high, IntPredicate predicate) {
+            if (high - low <= 1) {
+                return (high > low && predicate.test(arr[low])) ? high : low;
+            }
+
+            int mid = (low + high) >>> 1;
+            int leftBoundary = partitionRange(arr, low, mid, predicate);   // [T1 F1]
+            int rightBoundary = partitionRange(arr, mid, high, predicate); // [T2 F2]
+
+            // [F1 T2] -> [T2 F1]
+            rotate(arr, leftBoundary, mid, rightBoundary);
+            return leftBoundary + (rightBoundary - mid);
+        }
+
+        /** Stable partition of arr through a buffer (prefix-sum scatter, parallel). */
+        static int partitionParallel(int[] arr, IntPredicate predicate) {
+            int[] buffer = new int[arr.length];
+            int boundary = partitionInto(arr, buffer, predicate);
+            System.arraycopy(buffer, 0, arr, 0, arr.length);
+            return boundary;
+        }
+
+        /** Stable partition of src into dst; src is not modified. */
+        static int partitionInto(int[] src, int[] dst, IntPredicate predicate) {
+            int n = src.length;
+            if (n == 0) return 0;
+
+            int target = ForkJoinPool.getCommonPoolParallelism() * 4;
+            int chunk = Math.max(MIN_CHUNK, (n + target - 1) / target);
+            int chunks = (int) ((n + (long) chunk - 1) / chunk);
+            int[] matches = new int[chunks];
+
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int start = c * chunk;
+                int end = (int) Math.min(n, (long) start + chunk);
+                int count = 0;
+                for (int i = start; i < end; i++) {
+                    if (predicate.test(src[i])) count++;
+                }
+                matches[c] = count;
+            });
+
+            int[] matchesBefore = matches.clone();
+            Arrays.parallelPrefix(matchesBefore, Integer::sum);
+            int boundary = matchesBefore[chunks - 1];
+
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int start = c * chunk;
+                int end = (int) Math.min(n, (long) start + chunk);
+                int trueWrite = matchesBefore[c] - matches[c];
+                int falseWrite = boundary + (start - trueWrite); // non-matches before this chunk
+
+                for (int i = start; i < end; i++) {
+                    int value = src[i];
+                    if (predicate.test(value)) {
+                        dst[trueWrite++] = value;
+                    } else {
+                        dst[falseWrite++] = value;
+                    }
+                }
+            });
+
+            return boundary;
+        }
+
+        /** Rotates arr[first..last) so that arr[middle] comes first (three reversals). */
+        private static void rotate(int[] arr, int first, int middle, int last) {
+            if (first == middle || middle == last) return;
+
+            reverse(arr, first, middle - 1);
+            reverse(arr, middle, last - 1);
+            reverse(arr, first, last - 1);
+        }
+
+        private static void reverse(int[] arr, int i, int j) {
+            while (i < j) {
+                int temp = arr[i];
+                arr[i++] = arr[j];
+                arr[j--] = temp;
+            }
+        }
+    }
+
     /**
      * Utility to print array
      */
@@ -121,6 +275,16 @@ public class MoveZerosToEnd {
             System.out.print("Optimised result: ");
             printArray(arrOpt);
 
+            int[] arrStable = tests[i].clone();
+            moveZerosStablePartition(arrStable);
+            System.out.print("Stable result:    ");
+            printArray(arrStable);
+
+            int[] arrParallel = tests[i].clone();
+            moveZerosParallel(arrParallel);
+            System.out.print("Parallel result:  ");
+            printArray(arrParallel);
+
             System.out.println();
         }
     }
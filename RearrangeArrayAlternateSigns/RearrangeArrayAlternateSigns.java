@@ -1,6 +1,11 @@
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
 
 public class RearrangeArrayAlternateSigns {
 
@@ -48,32 +53,39 @@ public class RearrangeArrayAlternateSigns {
     /**
      * BETTER APPROACH
      *
-     * Idea: - Same logic as brute but using result array
+     * Idea: - Stable partition a copy so positives come first, negatives
+     * second (parallel prefix-sum scatter, see Algos/StablePartition) -
+     * Interleave the two groups back into arr, starting with a positive - If
+     * the counts differ, the leftovers are appended in order
      *
-     * Time Complexity: O(n) Space Complexity: O(n)
+     * Time Complexity: O(n) (O(n / p) for the partition) Space Complexity: O(n)
      *
      * Stable: Yes
      *
-     * How it works: - Fill positives at even index - Negatives at odd index
+     * How it works: - Positives at even index, negatives at odd index while
+     * both last, then the rest
      */
     public static void betterApproach(int[] arr) {
-        int[] res = new int[arr.length];
-        int posIdx = 0, negIdx = 1;
+        rearrangeBetter(arr);
+        print(arr);
+    }
 
-        for (int num : arr) {
-            if (num >= 0 && posIdx < arr.length) {
-                res[posIdx] = num;
-                posIdx += 2;
-            } else if (num < 0 && negIdx < arr.length) {
-                res[negIdx] = num;
-                negIdx += 2;
-            }
-        }
+    /** betterApproach without the printing (used by the benchmark) */
+    static void rearrangeBetter(int[] arr) {
+        int[] parts = new int[arr.length];
+        int positives = Partition.partitionInto(arr, parts, x -> x >= 0);
 
-        for (int i = 0; i < arr.length; i++) {
-            arr[i] = res[i];
+        int i = 0, p = 0, n = positives;
+        while (p < positives && n < arr.length) {
+            arr[i++] = parts[p++];
+            arr[i++] = parts[n++];
+        }
+        while (p < positives) {
+            arr[i++] = parts[p++];
+        }
+        while (n < arr.length) {
+            arr[i++] = parts[n++];
         }
-        print(arr);
     }
 
     /**
@@ -107,6 +119,184 @@ public class RearrangeArrayAlternateSigns {
         print(arr);
     }
 
+    /**
+     * IN-PLACE STABLE APPROACH (Rotations, no auxiliary array)
+     *
+     * Idea: - Stable partition in place with rotations
+     * (Partition.partitionInPlace): P1..Pp N1..Nq - If p > q, rotate the
+     * extra positives behind the negatives: P1..Pm N1..Nm P(m+1)..Pp, where
+     * m = min(p, q) - Perfect-shuffle the first 2m elements A1..Am B1..Bm
+     * into A1 B1 A2 B2 ... by divide and conquer: with h = m / 2, rotate
+     * A(h+1)..Am B1..Bh into B1..Bh A(h+1)..Am, then shuffle both halves
+     *
+     * Time Complexity: O(n log n) Space Complexity: O(log n) recursion, no
+     * arrays
+     *
+     * Stable: Yes (same output as betterApproach)
+     *
+     * How it works: - Every step is a rotation, and rotations keep the
+     * relative order inside each block - Works on arrays near heap capacity
+     * and does not print
+     */
+    public static void rearrangeInPlace(int[] arr) {
+        int n = arr.length;
+        int positives = Partition.partitionInPlace(arr, x -> x >= 0);
+        int m = Math.min(positives, n - positives);
+
+        if (positives > m) {
+            Partition.rotate(arr, m, positives, n);
+        }
+        shuffle(arr, 0, m);
+    }
+
+    /** Interleave arr[lo..lo+m) and arr[lo+m..lo+2m) as A1 B1 A2 B2 ... */
+    private static void shuffle(int[] arr, int lo, int m) {
+        while (m > 1) {
+            int h = m / 2;
+            Partition.rotate(arr, lo + h, lo + m, lo + m + h);
+            shuffle(arr, lo, h);
+
+            // Tail call on the larger half
+            lo += 2 * h;
+            m -= h;
+        }
+    }
+
+    /**
+     * Benchmark: betterApproach (extra array) vs rearrangeInPlace.
+     *
+     * - Random signs, 60% positive, so leftovers are exercised
+     * - Reports milliseconds; the first rounds warm up the JIT
+     * - Run: java -Xmx2g RearrangeArrayAlternateSigns bench 16777216
+     */
+    static void benchmark(int n) {
+        Random random = new Random(42);
+        int[] input = new int[n];
+        for (int i = 0; i < n; i++) {
+            int magnitude = random.nextInt(1_000_000);
+            input[i] = random.nextInt(10) < 6 ? magnitude : -magnitude - 1;
+        }
+
+        for (int round = 0; round < 5; round++) {
+            int[] better = input.clone();
+            long start = System.nanoTime();
+            rearrangeBetter(better);
+            double betterMillis = (System.nanoTime() - start) / 1e6;
+
+            int[] inPlace = input.clone();
+            start = System.nanoTime();
+            rearrangeInPlace(inPlace);
+            double inPlaceMillis = (System.nanoTime() - start) / 1e6;
+
+            if (!Arrays.equals(better, inPlace)) {
+                throw new IllegalStateException("results differ");
+            }
+            System.out.printf("n=%,d round=%d  betterApproach: %.1f ms (+%,d bytes)  in place: %.1f ms%n",
+                    n, round, betterMillis, 4L * n, inPlaceMillis);
+        }
+    }
+
+    /**
+     * Stable partition helper: a private copy of Algos/StablePartition so this
+     * file still compiles on its own.
+     *
+     * - partitionInPlace: split in halves, partition both, rotate [F1 T2]
+     *   into [T2 F1]. O(n log n) time, no buffer.
+     * - partitionInto: count matches per chunk, prefix sums give each chunk
+     *   its write offsets, chunks scatter in parallel. O(n / p) time.
+     * Both return the number of elements where the predicate is true.
+     */
+    private static final class Partition {
+        private static final int MIN_CHUNK = 1 << 16;
+
+        static int partitionInPlace(int[] arr, IntPredicate predicate) {
+            if (arr == null) {
+                throw new IllegalArgumentException("Array must be non-null");
+            }
+
+            // Leading matches and trailing non-matches are already in place
+            int low = 0, high = arr.length;
+            while (low < high && predicate.test(arr[low])) low++;
+            while (low < high && !predicate.test(arr[high - 1])) high--;
+
+            return partitionRange(arr, low, high, predicate);
+        }
+
+        private static int partitionRange(int[] arr, int low, int high, IntPredicate predicate) {
+            if (high - low <= 1) {
+                return (high > low && predicate.test(arr[low])) ? high : low;
+            }
+
+            int mid = (low + high) >>> 1;
+            int leftBoundary = partitionRange(arr, low, mid, predicate);   // [T1 F1]
+            int rightBoundary = partitionRange(arr, mid, high, predicate); // [T2 F2]
+
+            // [F1 T2] -> [T2 F1]
+            rotate(arr, leftBoundary, mid, rightBoundary);
+            return leftBoundary + (rightBoundary - mid);
+        }
+
+        /** Stable partition of src into dst; src is not modified. */
+        static int partitionInto(int[] src, int[] dst, IntPredicate predicate) {
+            int n = src.length;
+            if (n == 0) return 0;
+
+            int target = ForkJoinPool.getCommonPoolParallelism() * 4;
+            int chunk = Math.max(MIN_CHUNK, (n + target - 1) / target);
+            int chunks = (int) ((n + (long) chunk - 1) / chunk);
+            int[] matches = new int[chunks];
+
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int start = c * chunk;
+                int end = (int) Math.min(n, (long) start + chunk);
+                int count = 0;
+                for (int i = start; i < end; i++) {
+                    if (predicate.test(src[i])) count++;
+                }
+                matches[c] = count;
+            });
+
+            int[] matchesBefore = matches.clone();
+            Arrays.parallelPrefix(matchesBefore, Integer::sum);
+            int boundary = matchesBefore[chunks - 1];
+
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int start = c * chunk;
+                int end = (int) Math.min(n, (long) start + chunk);
+                int trueWrite = matchesBefore[c] - matches[c];
+                int falseWrite = boundary + (start - trueWrite); // non-matches before this chunk
+
+                for (int i = start; i < end; i++) {
+                    int value = src[i];
+                    if (predicate.test(value)) {
+                        dst[trueWrite++] = value;
+                    } else {
+                        dst[falseWrite++] = value;
+                    }
+                }
+            });
+
+            return boundary;
+        }
+
+        /** Rotates arr[first..last) so that arr[middle] comes first (three reversals). */
+        static void rotate(int[] arr, int first, int middle, int last) {
+            if (first == middle || middle == last) return;
+
+            reverse(arr, first, middle - 1);
+            reverse(arr, middle, last - 1);
+            reverse(arr, first, last - 1);
+        }
+
+        private static void reverse(int[] arr, int i, int j) {
+            while (i < j) {
+                int temp = arr[i];
+                arr[i++] = arr[j];
+                arr[j--] = temp;
+            }
+        }
+    }
+
     private static void print(int[] arr) {
         for (int num : arr) {
             System.out.print(num + " ");
@@ -115,9 +305,20 @@ public class RearrangeArrayAlternateSigns {
     }
 
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("bench")) {
+            benchmark(args.length > 1 ? Integer.parseInt(args[1]) : 1 << 22);
+            return;
+        }
+
         int[] arr = {3, 1, -2, -5, 2, -4};
         bruteForce(arr.clone());
         betterApproach(arr.clone());
         optimal(arr.clone());
+
+        betterApproach(new int[]{1, 2, 3, -4, 5, -6, -7});
+
+        int[] inPlace = {1, 2, 3, -4, 5, -6, -7};
+        rearrangeInPlace(inPlace);
+        print(inPlace);
     }
 }
@@ -1,4 +1,6 @@
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 public class RemoveDuplicatesFromSortedArray {
 
@@ -158,6 +160,184 @@ public class RemoveDuplicatesFromSortedArray {
         return writeIndex;
     }
 
+    private static final int MIN_CHUNK = 1 << 16;
+
+    /**
+     * Helper method: chunk length so that every core gets a few chunks.
+     */
+    private static int chunkSize(int n) {
+        int target = ForkJoinPool.getCommonPoolParallelism() * 4;
+        return Math.max(MIN_CHUNK, (int) ((n + (long) target - 1) / target));
+    }
+
+    /**
+     * Helper method: phases 1 and 2 shared by both parallel variants.
+     *
+     * - Phase 1: every chunk counts its run heads in parallel
+     *   (index i is a head if i == 0 or arr[i] != arr[i - 1]).
+     * - Phase 2: Arrays.parallelPrefix turns the counts into inclusive sums;
+     *   the exclusive write offset of chunk c is offsets[c] - counts[c].
+     *
+     * Returns {counts, inclusiveOffsets}; the last inclusive offset is the
+     * number of unique elements.
+     */
+    private static int[][] countRunHeads(int[] arr, int chunk, int chunks) {
+        int n = arr.length;
+        int[] counts = new int[chunks];
+
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int start = c * chunk;
+            int end = (int) Math.min(n, (long) start + chunk);
+            int heads = (start == 0 || arr[start] != arr[start - 1]) ? 1 : 0;
+
+            for (int i = start + 1; i < end; i++) {
+                if (arr[i] != arr[i - 1]) {
+                    heads++;
+                }
+            }
+            counts[c] = heads;
+        });
+
+        int[] offsets = counts.clone();
+        Arrays.parallelPrefix(offsets, Integer::sum);
+
+        return new int[][]{counts, offsets};
+    }
+
+    /**
+     * Parallel out of place removal of duplicates (stream compaction).
+     *
+     * Idea:
+     * - Phases 1 and 2 as in countRunHeads give every chunk its write offset.
+     * - Phase 3: every chunk scatters its run heads into the new array,
+     *   starting at its offset. Chunks write disjoint ranges, so no locking.
+     *
+     * Assumptions:
+     * - Input array is sorted in non decreasing order.
+     *
+     * Edge cases:
+     * - arr == null -> IllegalArgumentException.
+     * - [] -> returns [].
+     *
+     * Time Complexity: O(n / p) for p cores
+     * - Two parallel passes over the input plus a prefix scan over the chunks.
+     *
+     * Space Complexity: O(u + p), u = number of unique elements
+     *
+     * Example test cases:
+     * - [1, 1, 2] -> [1, 2]
+     * - [-3, -3, -2, -2, -2, 0, 1, 1] -> [-3, -2, 0, 1]
+     */
+    public static int[] removeDuplicatesParallelCopy(int[] arr) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array must be non null");
+        }
+
+        int n = arr.length;
+        if (n == 0) {
+            return new int[0];
+        }
+
+        int chunk = chunkSize(n);
+        int chunks = (int) ((n + (long) chunk - 1) / chunk);
+        int[][] phases = countRunHeads(arr, chunk, chunks);
+        int[] counts = phases[0];
+        int[] offsets = phases[1];
+
+        int[] unique = new int[offsets[chunks - 1]];
+
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int start = c * chunk;
+            int end = (int) Math.min(n, (long) start + chunk);
+            int write = offsets[c] - counts[c];
+
+            if (start == 0 || arr[start] != arr[start - 1]) {
+                unique[write++] = arr[start];
+            }
+            for (int i = start + 1; i < end; i++) {
+                if (arr[i] != arr[i - 1]) {
+                    unique[write++] = arr[i];
+                }
+            }
+        });
+
+        return unique;
+    }
+
+    /**
+     * Parallel in place removal of duplicates (same contract as the optimised version).
+     *
+     * Idea:
+     * - Phases 1 and 2 as in countRunHeads. Phase 1 also sees each chunk's
+     *   left neighbour before anything is modified; it is saved per chunk.
+     * - Phase 3: every chunk compacts its own range in place, in parallel,
+     *   using the saved neighbour for its first element. Writes never leave
+     *   the chunk, so chunks cannot clobber each other.
+     * - Phase 4: the compacted blocks are slid left to their offsets with
+     *   System.arraycopy, left to right. A block's destination always ends
+     *   before the next block's source starts, so the order is safe. This
+     *   step only moves the u unique values and runs at memmove speed; it is
+     *   the part that must stay sequential to remain in place.
+     *
+     * Assumptions:
+     * - Input array is sorted in non decreasing order.
+     *
+     * Edge cases:
+     * - arr == null -> IllegalArgumentException.
+     * - [] -> returns 0.
+     *
+     * Time Complexity: O(n / p + u) for p cores
+     * Space Complexity: O(p)
+     *
+     * Example test cases:
+     * - [1, 1, 2] -> returns 2, arr[0..1] = [1, 2]
+     * - [0, 0, 1, 1, 1, 2, 2, 3, 3, 4] -> returns 5, arr[0..4] = [0, 1, 2, 3, 4]
+     */
+    public static int removeDuplicatesParallel(int[] arr) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array must be non null");
+        }
+
+        int n = arr.length;
+        if (n < 2) {
+            return n;
+        }
+
+        int chunk = chunkSize(n);
+        int chunks = (int) ((n + (long) chunk - 1) / chunk);
+
+        int[] leftNeighbour = new int[chunks];
+        for (int c = 1; c < chunks; c++) {
+            leftNeighbour[c] = arr[c * chunk - 1];
+        }
+
+        int[][] phases = countRunHeads(arr, chunk, chunks);
+        int[] counts = phases[0];
+        int[] offsets = phases[1];
+
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int start = c * chunk;
+            int end = (int) Math.min(n, (long) start + chunk);
+            int write = start;
+            boolean hasLast = c > 0;
+            int last = leftNeighbour[c];
+
+            for (int i = start; i < end; i++) {
+                if (!hasLast || arr[i] != last) {
+                    last = arr[i];
+                    hasLast = true;
+                    arr[write++] = last;
+                }
+            }
+        });
+
+        for (int c = 1; c < chunks; c++) {
+            System.arraycopy(arr, c * chunk, arr, offsets[c] - counts[c], counts[c]);
+        }
+
+        return offsets[chunks - 1];
+    }
+
     /**
      * Helper method to print the array up to a given length.
      * This is useful for visualizing the result of the removal.
@@ -215,6 +395,14 @@ public class RemoveDuplicatesFromSortedArray {
             System.out.print("Optimised length: " + lenOptimised + ", array: ");
             printArray(arrOptimised, lenOptimised);
 
+            int[] arrParallel = Arrays.copyOf(original, original.length);
+            int lenParallel = removeDuplicatesParallel(arrParallel);
+            System.out.print("Parallel length: " + lenParallel + ", array: ");
+            printArray(arrParallel, lenParallel);
+
+            System.out.print("Parallel copy: ");
+            System.out.println(Arrays.toString(removeDuplicatesParallelCopy(original)));
+
             System.out.println();
         }
     }
@@ -53,6 +53,26 @@ public class LeftRotateArrayByOnePlace {
         arr[n - 1] = first;
     }
 
+    /**
+     * Left rotate a rotated view by one position.
+     *
+     * Idea:
+     * - Callers that rotate repeatedly and only read do not need to move
+     *   elements; a LeftRotateByNPlaces.RotatedView just advances its offset.
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     *
+     * Example:
+     * - view of [1, 2, 3, 4, 5] → reads as [2, 3, 4, 5, 1]
+     */
+    public static void leftRotateByOne(LeftRotateByNPlaces.RotatedView view) {
+        if (view == null) {
+            throw new IllegalArgumentException("View must be non-null");
+        }
+        view.rotate(1);
+    }
+
     // For demonstration / testing
     private static void printArray(int[] arr) {
         System.out.print("[");
@@ -84,8 +104,11 @@ public class LeftRotateArrayByOnePlace {
         for (int i = 0; i < tests.length; i++) {
             System.out.println("Testing " + names[i]);
             int[] arr = tests[i];
+            LeftRotateByNPlaces.RotatedView view = new LeftRotateByNPlaces.RotatedView(arr.clone(), 0);
+            leftRotateByOne(view);
             leftRotateByOne(arr);
             printArray(arr);
+            printArray(view.toArray());
             System.out.println();
         }
     }
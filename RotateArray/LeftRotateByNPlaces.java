@@ -82,6 +82,169 @@ public class LeftRotateByNPlaces {
         reverse(arr, 0, n - 1);
     }
 
+    /** Tile size for block moves: 4096 ints = 16 KB, fits in L1 */
+    private static final int TILE = 1 << 12;
+
+    /**
+     * Cache-blocked left rotation by N places (Block Swap).
+     *
+     * Idea:
+     * Split arr into A (first k) and B (rest).
+     *   - If the shorter block fits in one tile: copy it out, slide the
+     *     longer block with System.arraycopy, copy it back. Done.
+     *   - If |A| <= |B|, write B = B1 B2 with |B2| = |A| and swap A with B2:
+     *     B2 B1 A. A is now final; rotate B2 B1 the same way.
+     *   - If |A| > |B|, write A = A1 A2 with |A1| = |B| and swap A1 with B:
+     *     B A2 A1. B is now final; rotate A2 A1 the same way.
+     * Block swaps go through a 16 KB tile with System.arraycopy.
+     *
+     * Example:
+     *   arr = [1,2,3,4,5], k = 2 (A = [1,2], B = [3,4,5])
+     *   tile path: copy [1,2] out → slide [3,4,5] left → [3,4,5,1,2]
+     *
+     * Time Complexity: O(n), every element is moved about once
+     *   (the reversal algorithm reads and writes every element twice)
+     * Space Complexity: O(1), one fixed 16 KB tile
+     *
+     * Edge Cases:
+     * - null array -> IllegalArgumentException
+     * - [] or [x] → no rotation
+     * - k = 0 → no rotation
+     * - k > length → use k = k % length
+     * - negative k → rotates right (k = floorMod(k, length)), as in RotatedView
+     */
+    public static void leftRotateBlockSwap(int[] arr, int k) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array must be non-null");
+        }
+
+        int n = arr.length;
+        if (n <= 1) return;
+
+        k = Math.floorMod(k, n);
+        if (k == 0) return;
+
+        int[] tile = new int[Math.min(TILE, Math.min(k, n - k))];
+        int lo = 0, mid = k, hi = n;
+
+        while (true) {
+            int a = mid - lo;
+            int b = hi - mid;
+
+            if (a <= tile.length) {
+                // A fits in the tile: [A B] → [B A]
+                System.arraycopy(arr, lo, tile, 0, a);
+                System.arraycopy(arr, mid, arr, lo, b);
+                System.arraycopy(tile, 0, arr, hi - a, a);
+                return;
+            }
+            if (b <= tile.length) {
+                System.arraycopy(arr, mid, tile, 0, b);
+                System.arraycopy(arr, lo, arr, lo + b, a);
+                System.arraycopy(tile, 0, arr, lo, b);
+                return;
+            }
+
+            if (a <= b) {
+                swapBlocks(arr, lo, hi - a, a, tile);
+                hi -= a;
+            } else {
+                swapBlocks(arr, lo, mid, b, tile);
+                lo += b;
+            }
+        }
+    }
+
+    /** Helper: swap the disjoint blocks arr[i..i+len) and arr[j..j+len), one tile at a time */
+    private static void swapBlocks(int[] arr, int i, int j, int len, int[] tile) {
+        for (int done = 0; done < len; done += tile.length) {
+            int c = Math.min(tile.length, len - done);
+            System.arraycopy(arr, i + done, tile, 0, c);
+            System.arraycopy(arr, j + done, arr, i + done, c);
+            System.arraycopy(tile, 0, arr, j + done, c);
+        }
+    }
+
+    /**
+     * Zero-copy rotated view of an int[].
+     *
+     * Idea:
+     * - Instead of moving elements, remember an offset.
+     * - view.get(i) = arr[(offset + i) % n]; rotating the view only
+     *   changes the offset.
+     *
+     * Time Complexity:
+     * - rotate, get, set: O(1)
+     * - copyTo: O(n), two System.arraycopy calls
+     * Space Complexity: O(1), the backing array is shared, not copied
+     *
+     * Edge Cases:
+     * - null array -> IllegalArgumentException
+     * - [] → every get / set is out of bounds, rotate does nothing
+     * - negative k → rotates right
+     * - writes through set() are visible in the backing array
+     */
+    public static final class RotatedView {
+        private final int[] arr;
+        private int offset;
+
+        public RotatedView(int[] arr, int k) {
+            if (arr == null) {
+                throw new IllegalArgumentException("Array must be non-null");
+            }
+            this.arr = arr;
+            rotate(k);
+        }
+
+        /** Left rotate the view by k more places (negative k rotates right) */
+        public RotatedView rotate(int k) {
+            int n = arr.length;
+            if (n > 0) {
+                offset = (int) Math.floorMod((long) offset + k, (long) n);
+            }
+            return this;
+        }
+
+        public int length() {
+            return arr.length;
+        }
+
+        /** Current left rotation of the view, in [0, length) */
+        public int offset() {
+            return offset;
+        }
+
+        public int get(int i) {
+            return arr[physical(i)];
+        }
+
+        public void set(int i, int value) {
+            arr[physical(i)] = value;
+        }
+
+        /** Copy the rotated contents into dst starting at dstPos */
+        public void copyTo(int[] dst, int dstPos) {
+            int head = arr.length - offset;
+            System.arraycopy(arr, offset, dst, dstPos, head);
+            System.arraycopy(arr, 0, dst, dstPos + head, offset);
+        }
+
+        public int[] toArray() {
+            int[] out = new int[arr.length];
+            copyTo(out, 0);
+            return out;
+        }
+
+        private int physical(int i) {
+            int n = arr.length;
+            if (i < 0 || i >= n) {
+                throw new IndexOutOfBoundsException("Index " + i + " out of bounds for length " + n);
+            }
+            int j = offset + i;
+            return j >= n || j < 0 ? j - n : j; // j < 0 only on int overflow
+        }
+    }
+
     /** Helper: reverse a subarray from l to r */
     private static void reverse(int[] arr, int l, int r) {
         while (l < r) {
@@ -103,7 +266,51 @@ public class LeftRotateByNPlaces {
         System.out.println("]");
     }
 
+    /**
+     * Benchmark: reversal vs block swap (and the view for reference).
+     *
+     * - Rotates the same array by each k with both methods and reports
+     *   GB/s of array length rotated; the first rounds warm up the JIT.
+     * - Run: java -Xmx2g LeftRotateByNPlaces bench 67108864
+     */
+    static void benchmark(int n) {
+        int[] arr = new int[n];
+        for (int i = 0; i < n; i++) {
+            arr[i] = i;
+        }
+        double gigabytes = n * 4.0 / 1e9;
+        int[] ks = {1, 1000, n / 3, n / 2, n - 1000};
+
+        for (int round = 0; round < 4; round++) {
+            for (int k : ks) {
+                long start = System.nanoTime();
+                leftRotateOptimised(arr, k);
+                double reversalSeconds = (System.nanoTime() - start) / 1e9;
+
+                start = System.nanoTime();
+                leftRotateBlockSwap(arr, n - k); // undo
+                double blockSeconds = (System.nanoTime() - start) / 1e9;
+
+                start = System.nanoTime();
+                int probe = new RotatedView(arr, k).get(n - 1);
+                double viewSeconds = (System.nanoTime() - start) / 1e9;
+
+                if (arr[0] != 0 || probe != (int) (((long) k + n - 1) % n)) {
+                    throw new IllegalStateException("rotation mismatch for k=" + k);
+                }
+                System.out.printf("n=%,d k=%,d round=%d  reversal: %.2f GB/s  block swap: %.2f GB/s"
+                                + "  view: %.0f us%n",
+                        n, k, round, gigabytes / reversalSeconds, gigabytes / blockSeconds,
+                        viewSeconds * 1e6);
+            }
+        }
+    }
+
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("bench")) {
+            benchmark(args.length > 1 ? Integer.parseInt(args[1]) : 1 << 24);
+            return;
+        }
 
         int[][] testArrays = {
             {1,2,3,4,5},
@@ -133,6 +340,14 @@ public class LeftRotateByNPlaces {
             System.out.print("Optimised Result: ");
             printArray(arr2);
 
+            int[] arr3 = testArrays[i].clone();
+            leftRotateBlockSwap(arr3, k);
+            System.out.print("Block Swap:       ");
+            printArray(arr3);
+
+            System.out.print("View Result:      ");
+            printArray(new RotatedView(testArrays[i], k).toArray());
+
             System.out.println();
         }
     }
@@ -1,8 +1,16 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class ThreeSum {
 
@@ -124,11 +132,315 @@ public class ThreeSum {
         return result;
     }
 
+    /**
+     * Growable primitive buffer of triplets.
+     * Triplet t is stored at data[3t], data[3t + 1], data[3t + 2].
+     */
+    public static final class TripletBuffer {
+        private int[] data;
+        private int size; // number of ints used (3 per triplet)
+
+        public TripletBuffer() {
+            this(16);
+        }
+
+        public TripletBuffer(int initialTriplets) {
+            data = new int[Math.max(1, initialTriplets) * 3];
+        }
+
+        public void add(int a, int b, int c) {
+            if (size + 3 > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, size + 3));
+            }
+            data[size++] = a;
+            data[size++] = b;
+            data[size++] = c;
+        }
+
+        public void addAll(TripletBuffer other) {
+            if (size + other.size > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, size + other.size));
+            }
+            System.arraycopy(other.data, 0, data, size, other.size);
+            size += other.size;
+        }
+
+        public int count() {
+            return size / 3;
+        }
+
+        public int get(int triplet, int position) {
+            return data[triplet * 3 + position];
+        }
+
+        public int[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+
+        public List<List<Integer>> toList() {
+            List<List<Integer>> result = new ArrayList<>(count());
+            for (int i = 0; i < size; i += 3) {
+                result.add(Arrays.asList(data[i], data[i + 1], data[i + 2]));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Helper Method:
+     * Two pointer scan for every distinct pivot in sorted[from..to).
+     * Sums are long so extreme values cannot overflow.
+     */
+    private static void scanPivots(int[] sorted, int from, int to, TripletBuffer out) {
+        int n = sorted.length;
+
+        for (int i = from; i < to; i++) {
+            if (sorted[i] > 0) break; // all remaining values are positive
+            if (i > 0 && sorted[i] == sorted[i - 1]) continue;
+
+            int left = i + 1;
+            int right = n - 1;
+
+            while (left < right) {
+                long sum = (long) sorted[i] + sorted[left] + sorted[right];
+
+                if (sum == 0) {
+                    out.add(sorted[i], sorted[left], sorted[right]);
+
+                    left++;
+                    right--;
+
+                    while (left < right && sorted[left] == sorted[left - 1]) left++;
+                    while (left < right && sorted[right] == sorted[right + 1]) right--;
+
+                } else if (sum < 0) {
+                    left++;
+                } else {
+                    right--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Splits the pivot range in half until it is small, then scans.
+     * Results are joined left then right, so the order matches Approach 3.
+     */
+    private static final class PivotTask extends RecursiveTask<TripletBuffer> {
+        private static final long serialVersionUID = 1L;
+        private static final int PIVOTS_PER_TASK = 64;
+
+        private final int[] sorted;
+        private final int from, to;
+
+        PivotTask(int[] sorted, int from, int to) {
+            this.sorted = sorted;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected TripletBuffer compute() {
+            if (to - from <= PIVOTS_PER_TASK) {
+                TripletBuffer out = new TripletBuffer();
+                scanPivots(sorted, from, to, out);
+                return out;
+            }
+
+            int mid = (from + to) >>> 1;
+            PivotTask right = new PivotTask(sorted, mid, to);
+            right.fork();
+            TripletBuffer out = new PivotTask(sorted, from, mid).compute();
+            out.addAll(right.join());
+            return out;
+        }
+    }
+
+    /**
+     * Approach 4: Parallel Sorting + Two Pointers
+     *
+     * Idea:
+     * - Sort a copy of the array (the input is not modified).
+     * - Pivot ranges are independent: each fork/join task runs the
+     *   Approach 3 scan over its own range of outer indices.
+     * - Duplicate pivots are still skipped by comparing with the previous
+     *   element, so every triplet is found exactly once.
+     * - Each task writes into a primitive TripletBuffer; buffers are
+     *   concatenated in index order, so the output is deterministic.
+     *
+     * Time Complexity: O(n^2 / p) for p cores
+     * Space Complexity: O(n) (excluding output)
+     *
+     * Stable: Not Applicable
+     */
+    public static TripletBuffer threeSumParallel(int[] nums) {
+        int[] sorted = nums.clone();
+        Arrays.parallelSort(sorted);
+        return ForkJoinPool.commonPool().invoke(new PivotTask(sorted, 0, sorted.length));
+    }
+
+    /**
+     * Pull-based two pointer scan over a sorted array.
+     *
+     * - State is just (pivot, left, right), so nothing is buffered.
+     * - Each tryAdvance resumes the scan and stops at the next triplet.
+     * - trySplit hands the lower half of the remaining pivots to a new
+     *   spliterator, which is how parallel streams share the work.
+     */
+    private static final class TripletSpliterator implements Spliterator<int[]> {
+        private final int[] sorted;
+        private int i;       // current pivot
+        private int end;     // exclusive pivot bound
+        private int left, right;
+        private boolean scanning;
+
+        TripletSpliterator(int[] sorted, int from, int end) {
+            this.sorted = sorted;
+            this.i = from;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super int[]> action) {
+            while (i < end) {
+                if (!scanning) {
+                    if (sorted[i] > 0) { // all remaining pivots are positive
+                        i = end;
+                        return false;
+                    }
+                    if (i > 0 && sorted[i] == sorted[i - 1]) {
+                        i++;
+                        continue;
+                    }
+                    left = i + 1;
+                    right = sorted.length - 1;
+                    scanning = true;
+                }
+
+                while (left < right) {
+                    long sum = (long) sorted[i] + sorted[left] + sorted[right];
+
+                    if (sum == 0) {
+                        int[] triplet = {sorted[i], sorted[left], sorted[right]};
+
+                        left++;
+                        right--;
+
+                        while (left < right && sorted[left] == sorted[left - 1]) left++;
+                        while (left < right && sorted[right] == sorted[right + 1]) right--;
+
+                        action.accept(triplet);
+                        return true;
+                    } else if (sum < 0) {
+                        left++;
+                    } else {
+                        right--;
+                    }
+                }
+
+                scanning = false;
+                i++;
+            }
+
+            return false;
+        }
+
+        @Override
+        public Spliterator<int[]> trySplit() {
+            int from = scanning ? i + 1 : i;
+            int mid = (from + end) >>> 1;
+            if (mid <= from) return null;
+
+            // Ordered spliterators must hand out the prefix, so the new
+            // one takes over the pivot in progress and this one jumps ahead
+            TripletSpliterator prefix = new TripletSpliterator(sorted, i, mid);
+            prefix.left = left;
+            prefix.right = right;
+            prefix.scanning = scanning;
+
+            i = mid;
+            scanning = false;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Math.max(0, end - i); // remaining pivots, not triplets
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+
+    /**
+     * Approach 5: Lazy Streaming (Sorting + Two Pointers on demand)
+     *
+     * Idea:
+     * - Same scan as Approach 3, but paused after every triplet.
+     * - Nothing is collected: the caller pulls triplets one by one and
+     *   can stop early (iterator / Stream.limit / findFirst).
+     * - The spliterator splits by pivot range for parallel streams.
+     * - Sorts nums in place, like Approach 3.
+     *
+     * Time Complexity: O(n^2) for a full traversal
+     * Space Complexity: O(1) beyond the sorted input
+     *
+     * Stable: Not Applicable
+     */
+    public static Spliterator<int[]> threeSumSpliterator(int[] nums) {
+        Arrays.sort(nums);
+        return new TripletSpliterator(nums, 0, nums.length);
+    }
+
+    public static Iterator<int[]> threeSumIterator(int[] nums) {
+        return Spliterators.iterator(threeSumSpliterator(nums));
+    }
+
+    public static Stream<int[]> threeSumStream(int[] nums, boolean parallel) {
+        return StreamSupport.stream(threeSumSpliterator(nums), parallel);
+    }
+
+    /**
+     * Benchmark: threeSumOptimal vs threeSumParallel.
+     * Values are spread over ±10^8 so the output stays in the millions.
+     * Run: java ThreeSum bench 100000
+     */
+    static void benchmark(int n) {
+        int[] nums = new java.util.Random(42).ints(n, -100_000_000, 100_000_001).toArray();
+
+        for (int round = 0; round < 3; round++) { // first rounds warm up the JIT
+            long start = System.nanoTime();
+            int sequential = threeSumOptimal(nums.clone()).size();
+            long sequentialMs = (System.nanoTime() - start) / 1_000_000;
+
+            start = System.nanoTime();
+            int parallel = threeSumParallel(nums).count();
+            long parallelMs = (System.nanoTime() - start) / 1_000_000;
+
+            System.out.printf("n=%,d round=%d  sequential: %d ms (%d)  parallel: %d ms (%d) on %d cores%n",
+                    n, round, sequentialMs, sequential, parallelMs, parallel,
+                    ForkJoinPool.getCommonPoolParallelism());
+        }
+    }
+
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("bench")) {
+            benchmark(args.length > 1 ? Integer.parseInt(args[1]) : 100_000);
+            return;
+        }
         int[] nums = {-1, 0, 1, 2, -1, -4};
 
         System.out.println(threeSumBrute(nums));
         System.out.println(threeSumHashing(nums));
+        System.out.println(threeSumParallel(nums).toList());
         System.out.println(threeSumOptimal(nums));
+
+        Iterator<int[]> it = threeSumIterator(nums.clone());
+        while (it.hasNext()) {
+            System.out.println(Arrays.toString(it.next()));
+        }
+        System.out.println(threeSumStream(nums.clone(), true).count());
     }
 }
@@ -2,6 +2,8 @@ import java.util.HashMap;
 
 public class TwoSum {
 
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+
     /**
      * Approach 1: Brute Force
      *
@@ -34,11 +36,33 @@ public class TwoSum {
      * - For every number x, check if (target - x) exists in map:
      *      - If yes → pair found
      *      - Else store x in map
+     * - The map is a primitive IntIntMap, so no Integer boxing per element
      *
      * Time Complexity: O(n)
      * Space Complexity: O(n)
      */
     public static int[] twoSumHashMap(int[] nums, int target) {
+        IntIntMap map = new IntIntMap(nums.length);
+
+        for (int i = 0; i < nums.length; i++) {
+            int need = target - nums[i];
+            int j = map.get(need, -1);
+
+            if (j != -1) {
+                return new int[]{j, i};
+            }
+
+            map.put(nums[i], i);
+        }
+
+        return new int[]{-1, -1};
+    }
+
+    /**
+     * Same as Approach 2 but with java.util.HashMap<Integer, Integer>.
+     * Kept only as the baseline for benchmark().
+     */
+    static int[] twoSumBoxedHashMap(int[] nums, int target) {
         HashMap<Integer, Integer> map = new HashMap<>();
 
         for (int i = 0; i < nums.length; i++) {
@@ -74,7 +98,7 @@ public class TwoSum {
             pair[i][1] = i;       // index
         }
 
-        java.util.Arrays.sort(pair, (a, b) -> a[0] - b[0]);
+        java.util.Arrays.sort(pair, (a, b) -> Integer.compare(a[0], b[0]));
 
         int left = 0, right = n - 1;
 
@@ -95,12 +119,205 @@ public class TwoSum {
         return new int[]{-1, -1};
     }
 
+    /**
+     * Approach 4: Two Pointers over Packed (value, index) longs
+     *
+     * Idea:
+     * - Pack each element as (value << 32) | index into one long
+     *      - Signed value in the high half, so sorting longs sorts by value
+     *      - Index in the low half, so original positions survive the sort
+     * - Sort the long[] with Arrays.sort / Arrays.parallelSort
+     *      (primitive sort, no int[] pair objects, no comparator)
+     * - Two pointer scan reads value with >> 32 and index with a cast
+     * - Sums are compared as long so large values cannot overflow
+     *
+     * Time Complexity: O(n log n)
+     * Space Complexity: O(n) (one long per element)
+     */
+    public static int[] twoSumPacked(int[] nums, int target) {
+        int n = nums.length;
+        long[] packed = new long[n];
+
+        for (int i = 0; i < n; i++) {
+            packed[i] = ((long) nums[i] << 32) | i;
+        }
+
+        if (n >= PARALLEL_SORT_THRESHOLD) {
+            java.util.Arrays.parallelSort(packed);
+        } else {
+            java.util.Arrays.sort(packed);
+        }
+
+        int left = 0, right = n - 1;
+
+        while (left < right) {
+            long sum = (packed[left] >> 32) + (packed[right] >> 32);
+
+            if (sum == target) {
+                int i = (int) packed[left];
+                int j = (int) packed[right];
+                return new int[]{Math.min(i, j), Math.max(i, j)};
+            }
+
+            if (sum < target) {
+                left++;
+            } else {
+                right--;
+            }
+        }
+
+        return new int[]{-1, -1};
+    }
+
+    /**
+     * Primitive open-addressing int → int hash map.
+     *
+     * Idea:
+     * - Keys and values live in two flat int[] arrays (no boxing, no nodes)
+     * - Linear probing: on collision try the next slot, wrapping around
+     * - Key 0 marks an empty slot, so the real key 0 is stored on the side
+     * - Capacity is a power of two, kept at most half full
+     */
+    static final class IntIntMap {
+        private static final int FREE_KEY = 0;
+        private static final int MAX_CAPACITY = 1 << 30;
+
+        private int[] keys;
+        private int[] values;
+        private int mask;
+        private int size;
+
+        private boolean hasZeroKey;
+        private int zeroValue;
+
+        IntIntMap(int expectedSize) {
+            int capacity = tableSize(expectedSize);
+            keys = new int[capacity];
+            values = new int[capacity];
+            mask = capacity - 1;
+        }
+
+        private static int slot(int key, int mask) {
+            int h = key * 0x9E3779B9; // Fibonacci hashing spreads clustered keys
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        int get(int key, int defaultValue) {
+            if (key == FREE_KEY) {
+                return hasZeroKey ? zeroValue : defaultValue;
+            }
+
+            int i = slot(key, mask);
+            while (keys[i] != FREE_KEY) {
+                if (keys[i] == key) return values[i];
+                i = (i + 1) & mask;
+            }
+            return defaultValue;
+        }
+
+        void put(int key, int value) {
+            if (key == FREE_KEY) {
+                if (!hasZeroKey) size++;
+                hasZeroKey = true;
+                zeroValue = value;
+                return;
+            }
+
+            int i = slot(key, mask);
+            while (keys[i] != FREE_KEY) {
+                if (keys[i] == key) {
+                    values[i] = value;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+
+            keys[i] = key;
+            values[i] = value;
+            if (++size * 2 > keys.length) rehash();
+        }
+
+        /**
+         * Power-of-two table size that keeps expectedSize keys at most half
+         * full, computed in long and clamped at MAX_CAPACITY slots.
+         */
+        private static int tableSize(long expectedSize) {
+            long capacity = Long.highestOneBit(Math.max(4L, expectedSize) * 2 - 1) << 1;
+            return (int) Math.min(capacity, MAX_CAPACITY);
+        }
+
+        private void rehash() {
+            if (keys.length == MAX_CAPACITY) {
+                throw new IllegalArgumentException("Too many distinct keys: a table holds at most " + MAX_CAPACITY / 2);
+            }
+
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+
+            keys = new int[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            mask = keys.length - 1;
+
+            for (int j = 0; j < oldKeys.length; j++) {
+                int key = oldKeys[j];
+                if (key == FREE_KEY) continue;
+
+                int i = slot(key, mask);
+                while (keys[i] != FREE_KEY) i = (i + 1) & mask;
+                keys[i] = key;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    /**
+     * Benchmark: IntIntMap vs HashMap<Integer, Integer> on a miss-heavy input.
+     *
+     * - Target is chosen so no pair exists, forcing n lookups and n inserts
+     * - Reports wall time and bytes allocated by the current thread
+     * - Run: java -Xmx16g TwoSum bench 1000000 10000000 100000000
+     */
+    static void benchmark(int[] sizes) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+        long tid = Thread.currentThread().getId();
+
+        for (int n : sizes) {
+            int[] nums = new java.util.Random(42).ints(n, 0, Integer.MAX_VALUE / 2).toArray();
+            int target = -1; // all values are non-negative → never found
+
+            for (int round = 0; round < 3; round++) { // first rounds warm up the JIT
+                long bytes = threads.getThreadAllocatedBytes(tid);
+                long start = System.nanoTime();
+                twoSumHashMap(nums, target);
+                long primitiveMs = (System.nanoTime() - start) / 1_000_000;
+                long primitiveBytes = threads.getThreadAllocatedBytes(tid) - bytes;
+
+                bytes = threads.getThreadAllocatedBytes(tid);
+                start = System.nanoTime();
+                twoSumBoxedHashMap(nums, target);
+                long boxedMs = (System.nanoTime() - start) / 1_000_000;
+                long boxedBytes = threads.getThreadAllocatedBytes(tid) - bytes;
+
+                System.out.printf("n=%,d round=%d  IntIntMap: %d ms, %,d B  HashMap: %d ms, %,d B%n",
+                        n, round, primitiveMs, primitiveBytes, boxedMs, boxedBytes);
+            }
+        }
+    }
+
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("bench")) {
+            int[] sizes = new int[args.length - 1];
+            for (int i = 1; i < args.length; i++) sizes[i - 1] = Integer.parseInt(args[i]);
+            benchmark(sizes.length > 0 ? sizes : new int[]{1_000_000, 10_000_000});
+            return;
+        }
         int[] nums = {2, 7, 11, 15};
         int target = 9;
 
         System.out.println(java.util.Arrays.toString(twoSumBrute(nums, target)));
         System.out.println(java.util.Arrays.toString(twoSumHashMap(nums, target)));
         System.out.println(java.util.Arrays.toString(twoSumTwoPointer(nums, target)));
+        System.out.println(java.util.Arrays.toString(twoSumPacked(nums, target)));
     }
 }